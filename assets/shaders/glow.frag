@@ -0,0 +1,28 @@
+#ifdef GL_ES
+precision mediump float;
+#endif
+
+// The quad spans the glow at its largest, 1.5 times the orb at the pulse's 1.2 peak; radii are in half quads
+const float ORB_RADIUS = 1.0 / 1.8;
+const float GLOW_RADIUS = 1.5 / 1.8;
+
+uniform sampler2D u_texture;
+uniform vec4 u_region;
+
+varying vec3 v_color;
+varying vec2 v_local;
+varying float v_pulse;
+
+// Coverage of the orb sprite scaled to radius, so both circles keep its antialiased edge
+float orb(float radius) {
+    vec2 p = v_local / radius;
+    if (max(abs(p.x), abs(p.y)) > 1.0) return 0.0;
+    return texture2D(u_texture, mix(u_region.xy, u_region.zw, p * 0.5 + 0.5)).a;
+}
+
+void main() {
+    // A translucent glow under a mostly opaque orb, blended as if drawn one after the other
+    float glow = 0.3 * orb(GLOW_RADIUS * v_pulse);
+    float core = 0.8 * orb(ORB_RADIUS * v_pulse);
+    gl_FragColor = vec4(v_color, core + glow * (1.0 - core));
+}
@@ -0,0 +1,25 @@
+// Power-up glow: SpriteBatch vertex layout, one quad per power-up.
+// The vertex colour is the power-up's RGB; its alpha carries the pulse phase as a fraction of a period.
+attribute vec4 a_position;
+attribute vec4 a_color;
+attribute vec2 a_texCoord0;
+
+uniform mat4 u_projTrans;
+uniform vec4 u_region;
+uniform float u_time;
+
+varying vec3 v_color;
+varying vec2 v_local;
+varying float v_pulse;
+
+const float PULSE_SPEED = 5.0;
+const float PULSE_AMOUNT = 0.2;
+const float TWO_PI = 6.2831853;
+
+void main() {
+    v_color = a_color.rgb;
+    // -1 to 1 across the quad, wherever its region sits in the atlas
+    v_local = (a_texCoord0 - u_region.xy) / (u_region.zw - u_region.xy) * 2.0 - 1.0;
+    v_pulse = 1.0 + PULSE_AMOUNT * sin(u_time * PULSE_SPEED - a_color.a * TWO_PI);
+    gl_Position = u_projTrans * a_position;
+}
@@ -0,0 +1,33 @@
+// Scrolls every background layer by moving texture coordinates, so the geometry never changes.
+#ifdef GL_ES
+#ifdef GL_FRAGMENT_PRECISION_HIGH
+precision highp float;
+#else
+precision mediump float;
+#endif
+#endif
+
+const float FAR_ALPHA = 0.5;
+const float NEAR_ALPHA = 0.9;
+
+// The background image, tinted by the batch colour, and a repeating star tile with the far layer in red and the
+// near layer in green
+uniform sampler2D u_texture;
+uniform sampler2D u_stars;
+// Background scroll as a fraction of its width; wrapped here so images of any size repeat
+uniform float u_backgroundOffset;
+// Per star layer: screen to tile scale in xy, scroll offset in zw
+uniform vec4 u_far;
+uniform vec4 u_near;
+
+varying vec4 v_color;
+varying vec2 v_texCoords;
+
+void main() {
+    vec3 color = texture2D(u_texture, vec2(fract(v_texCoords.x + u_backgroundOffset), v_texCoords.y)).rgb * v_color.rgb;
+    float far = texture2D(u_stars, v_texCoords * u_far.xy + u_far.zw).r * FAR_ALPHA;
+    float near = texture2D(u_stars, v_texCoords * u_near.xy + u_near.zw).g * NEAR_ALPHA;
+    color = mix(color, vec3(1.0), far);
+    color = mix(color, vec3(1.0), near);
+    gl_FragColor = vec4(color, v_color.a);
+}
@@ -0,0 +1,14 @@
+#ifdef GL_ES
+precision mediump float;
+#endif
+
+const float STAR_ALPHA = 0.8;
+
+varying vec2 v_offset;
+varying float v_radius;
+
+void main() {
+    // Round star with a one pixel soft edge, so stars under a pixel wide still show
+    float coverage = clamp(v_radius - length(v_offset) + 0.5, 0.0, 1.0);
+    gl_FragColor = vec4(1.0, 1.0, 1.0, STAR_ALPHA * coverage);
+}
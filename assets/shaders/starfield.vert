@@ -0,0 +1,28 @@
+// Menu starfield: four vertices per star, uploaded once. Stars drift left at their own speed and wrap around the
+// screen here, so the CPU only updates the time uniform.
+attribute vec2 a_position;
+attribute vec2 a_corner;
+attribute float a_speed;
+
+uniform mat4 u_projTrans;
+uniform vec2 u_screen;
+uniform float u_time;
+
+varying vec2 v_offset;
+varying float v_radius;
+
+// Moves a star to a new row each time it wraps, spread evenly over the height
+const float ROW_STEP = 0.618034;
+const float RADIUS_PER_SPEED = 1.0 / 50.0;
+
+void main() {
+    // a_position is the star's starting point as a fraction of the screen
+    float travel = a_position.x * u_screen.x - a_speed * u_time;
+    float lap = floor(travel / u_screen.x);
+    vec2 center = vec2(travel - lap * u_screen.x, fract(a_position.y - lap * ROW_STEP) * u_screen.y);
+
+    // One pixel larger than the star so its soft edge is not cut off
+    v_radius = a_speed * RADIUS_PER_SPEED;
+    v_offset = a_corner * (v_radius + 1.0);
+    gl_Position = u_projTrans * vec4(center + v_offset, 0.0, 1.0);
+}
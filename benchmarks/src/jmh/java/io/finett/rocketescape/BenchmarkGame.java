@@ -0,0 +1,58 @@
+package io.finett.rocketescape;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+
+/**
+ * Starts the headless backend once per benchmark fork: real Preferences for the stats-backed suites and a stand-in
+ * GL for the HUD suites.
+ */
+final class BenchmarkGame {
+    // Kept apart from the desktop game's ~/.prefs so benchmarks never touch a player's progress
+    private static final String PREFERENCES_DIRECTORY = ".prefs/rocket-escape-benchmarks/";
+
+    private static HeadlessApplication application;
+
+    private BenchmarkGame() {}
+
+    static synchronized void start() {
+        if (application == null) {
+            HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+            configuration.preferencesDirectory = PREFERENCES_DIRECTORY;
+            configuration.updatesPerSecond = 1;
+            application = new HeadlessApplication(new ApplicationAdapter() {}, configuration);
+
+            // The headless backend has no GL at all; fonts and textures only need handles, so answer every call
+            // with a default value. Proxy calls allocate, which is why the HUD suites draw into a VertexSinkBatch.
+            GL20 gl = (GL20)Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] {GL20.class},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        Class<?> type = method.getReturnType();
+                        if (type == int.class) return 0;
+                        if (type == boolean.class) return false;
+                        if (type == float.class) return 0f;
+                        if (type == String.class) return "";
+                        return null;
+                    }
+                });
+            Gdx.gl = gl;
+            Gdx.gl20 = gl;
+        }
+    }
+
+    /** Creates a {@link Main} whose stats are backed by headless Preferences, without any screen. */
+    static Main create() {
+        start();
+        Main game = new Main();
+        game.loadPreferences();
+        return game;
+    }
+}
@@ -0,0 +1,74 @@
+package io.finett.rocketescape;
+
+/**
+ * A {@link GameSimulation} preloaded with a fixed number of obstacles, each pair leaving a gap around the rocket.
+ * They are either spread evenly across the screen or queued at a fixed spacing that runs on past its right edge.
+ * {@link #restore()} puts the same obstacle layout back into the simulation's spike buffer, so benchmarks can keep
+ * the obstacle count constant while the simulation moves and despawns them.
+ */
+final class BenchmarkWorld {
+    static final float WIDTH = 1920;
+    static final float HEIGHT = 1080;
+    // Every restore replays the same spawns, so runs and forks measure identical work
+    static final long SEED = 1;
+
+    final GameSimulation simulation;
+
+    private final float[] startX;
+    private final float[] startY;
+    private final float[] height;
+    private final float width;
+
+    /** Spacing between obstacle pairs when they are queued rather than fitted onto one screen. */
+    static final float QUEUE_SPACING = 240;
+
+    BenchmarkWorld(GameMode mode, int obstacles) {
+        this(mode, obstacles, false);
+    }
+
+    BenchmarkWorld(GameMode mode, int obstacles, boolean queued) {
+        simulation = new GameSimulation(mode, WIDTH, HEIGHT);
+
+        int pairs = Math.max(1, obstacles / 2);
+        startX = new float[pairs * 2];
+        startY = new float[pairs * 2];
+        height = new float[pairs * 2];
+        width = WIDTH * 0.08f;
+
+        float gapCenter = simulation.getRocketRect().y + simulation.getRocketRect().height / 2;
+        float halfGap = HEIGHT * 0.125f;
+
+        for (int pair = 0; pair < pairs; pair++) {
+            float x = queued ? pair * QUEUE_SPACING : WIDTH * pair / pairs;
+
+            // Top obstacle at even indices, bottom at odd, matching spawnSpikes
+            startX[pair * 2] = x;
+            startY[pair * 2] = gapCenter + halfGap;
+            height[pair * 2] = HEIGHT - (gapCenter + halfGap);
+
+            startX[pair * 2 + 1] = x;
+            startY[pair * 2 + 1] = 0;
+            height[pair * 2 + 1] = gapCenter - halfGap;
+        }
+        restore();
+    }
+
+    /** Starts a fresh run (score, combo, power-ups) with the original obstacles back in place. */
+    void restore() {
+        simulation.reset(SEED);
+        SpikeBuffer spikes = simulation.getSpikes();
+        float rocketCenterX = simulation.getRocketRect().x + simulation.getRocketRect().width / 2;
+        for (int i = 0; i < startX.length; i++) {
+            int spike = spikes.add(startX[i], startY[i], width, height[i], 0, i % 2 == 0);
+            // Spikes already behind the rocket were passed before; only those crossing it now score
+            spikes.scored[spike] = startX[i] + width / 2 < rocketCenterX;
+        }
+    }
+
+    /** Keeps the rocket hovering inside the obstacle gaps, like a player tapping. */
+    void autopilot() {
+        if (simulation.getRocketVelocity() < 0 && simulation.getRocketRect().y < HEIGHT / 2 - 40) {
+            simulation.flap();
+        }
+    }
+}
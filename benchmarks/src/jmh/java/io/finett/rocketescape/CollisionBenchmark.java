@@ -0,0 +1,42 @@
+package io.finett.rocketescape;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Rocket-versus-obstacle collision pass over a whole obstacle field, with the rocket safely inside the gaps.
+ * {@code screen} packs every obstacle onto one screen, so more of them share the rocket's column as the count grows;
+ * {@code queued} keeps gameplay-like spacing, so the extra obstacles wait off-screen and only the count grows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CollisionBenchmark {
+    @Param({"2", "16", "64", "256"})
+    public int obstacles;
+
+    @Param({"screen", "queued"})
+    public String layout;
+
+    private BenchmarkWorld world;
+
+    @Setup
+    public void setUp() {
+        world = new BenchmarkWorld(GameMode.ZEN, obstacles, layout.equals("queued"));
+    }
+
+    @Benchmark
+    public int checkCollisions() {
+        GameSimulation simulation = world.simulation;
+        simulation.checkCollisions();
+        return simulation.getCombo();
+    }
+}
@@ -0,0 +1,90 @@
+package io.finett.rocketescape;
+
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Turns {@link HudBenchmark}'s 0 B/op expectation into a pass or fail: after a fixed warm-up, runs each of its frames
+ * in windows and requires every window to allocate nothing on this thread. Exits with status 1 if any window did.
+ * <p>
+ * Run by {@code ./gradlew :benchmarks:checkHudAllocation}, which {@code check} depends on, in the interpreter: the JIT
+ * can allocate objects it had scalar-replaced whenever it deoptimizes, at points that vary from run to run, and its
+ * escape analysis would hide allocations the code still makes. Interpreted, the count is exact and repeatable.
+ */
+public class HudAllocationCheck {
+    // Lays out every label once; the check is about the frames after that
+    private static final int WARMUP_FRAMES = 1000;
+    // 100 seconds of play: several cycles of every power-up timer and of the difficulty ramp, and a new score digit
+    private static final int FRAMES = 6000;
+    private static final int WINDOWS = 10;
+
+    private static final ThreadMXBean THREADS = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        final HudBenchmark hud = new HudBenchmark();
+        hud.setUp();
+        boolean allocated;
+        try {
+            allocated = allocates(new Frame("scoreAndDifficulty") {
+                @Override
+                int draw() {
+                    return hud.scoreAndDifficulty();
+                }
+            });
+            allocated |= allocates(new Frame("powerUps") {
+                @Override
+                int draw() {
+                    return hud.powerUps();
+                }
+            });
+        } finally {
+            hud.tearDown();
+        }
+        // The headless backend's loop thread would keep the JVM alive
+        System.exit(allocated ? 1 : 0);
+    }
+
+    private static boolean allocates(Frame frame) {
+        long threadId = Thread.currentThread().getId();
+        int vertices = 0;
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            vertices += frame.draw();
+        }
+
+        // Reading the counter can allocate itself, so the cost of an empty measurement is taken off
+        long overhead = THREADS.getThreadAllocatedBytes(threadId);
+        overhead = THREADS.getThreadAllocatedBytes(threadId) - overhead;
+
+        long total = 0;
+        int dirtyWindows = 0;
+        for (int window = 0; window < WINDOWS; window++) {
+            long start = THREADS.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < FRAMES; i++) {
+                vertices += frame.draw();
+            }
+            long bytes = THREADS.getThreadAllocatedBytes(threadId) - start - overhead;
+            if (bytes > 0) {
+                total += bytes;
+                dirtyWindows++;
+            }
+        }
+
+        // Printing the vertex count keeps the frames from being optimized away
+        System.out.println(frame.name + ": " + total + " bytes over " + WINDOWS * FRAMES + " frames, " + dirtyWindows
+            + " of " + WINDOWS + " windows allocated (" + vertices + " vertices)"
+            + (dirtyWindows > 0 ? " - ALLOCATES" : " - OK"));
+        return dirtyWindows > 0;
+    }
+
+    /** One HUD frame of the benchmark, named for the report. */
+    private abstract static class Frame {
+        final String name;
+
+        Frame(String name) {
+            this.name = name;
+        }
+
+        abstract int draw();
+    }
+}
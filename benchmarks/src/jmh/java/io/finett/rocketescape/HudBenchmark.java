@@ -0,0 +1,104 @@
+package io.finett.rocketescape;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * One frame of HUD text and power-up bars, drawn into a {@link VertexSinkBatch} so the GC profiler's
+ * {@code gc.alloc.rate.norm} shows whether the steady-state frame allocates; it should read 0 B/op, which
+ * {@link HudAllocationCheck} enforces. Timers advance by one 60 Hz frame per call, so the displayed seconds and tenths
+ * tick over at their in-game rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HudBenchmark {
+    private static final float FRAME = 1 / 60f;
+
+    private BitmapFont font;
+    private Texture pixelTexture;
+    private TextureRegion pixel;
+    private final VertexSinkBatch batch = new VertexSinkBatch();
+
+    private HudText scoreText;
+    private HudText difficultyText;
+    private PowerUpHud powerUpHud;
+    private final Array<GameSimulation.PowerUp> activePowerUps = new Array<GameSimulation.PowerUp>();
+
+    private int frame;
+    private float difficulty;
+
+    @Setup
+    public void setUp() {
+        BenchmarkGame.start();
+        font = new BitmapFont();
+        Pixmap image = HudShapes.draw(HudShapes.PIXEL);
+        pixelTexture = new Texture(image);
+        image.dispose();
+        pixel = new TextureRegion(pixelTexture);
+
+        scoreText = new HudText(font, "Score: ");
+        difficultyText = new HudText(font, "x");
+        powerUpHud = new PowerUpHud(font);
+
+        for (PowerUpType type : PowerUpType.values()) {
+            GameSimulation.PowerUp powerUp = new GameSimulation.PowerUp(0, 0, type);
+            powerUp.animTimer = type.getDuration();
+            activePowerUps.add(powerUp);
+        }
+        difficulty = 1;
+    }
+
+    @TearDown
+    public void tearDown() {
+        font.dispose();
+        pixelTexture.dispose();
+    }
+
+    @Benchmark
+    public int scoreAndDifficulty() {
+        frame++;
+        difficulty += 0.1f * FRAME;
+        if (difficulty > 2.5f) difficulty = 1;
+
+        scoreText.setInt(frame / 30);
+        difficultyText.setTenths(difficulty);
+
+        batch.begin();
+        scoreText.draw(batch, 20, 1060, 1, 1, 1, 1);
+        difficultyText.draw(batch, 20, 1025, 1, 1, 1, 1);
+        batch.end();
+        return batch.getVertexCount();
+    }
+
+    @Benchmark
+    public int powerUps() {
+        for (int i = 0; i < activePowerUps.size; i++) {
+            GameSimulation.PowerUp powerUp = activePowerUps.get(i);
+            powerUp.animTimer -= FRAME;
+            if (powerUp.animTimer <= 0) powerUp.animTimer = powerUp.type.getDuration();
+        }
+
+        powerUpHud.update(activePowerUps);
+
+        batch.begin();
+        powerUpHud.drawBars(batch, pixel, activePowerUps, 20, 980);
+        powerUpHud.drawLabels(batch, activePowerUps, 20, 980);
+        batch.end();
+        return batch.getVertexCount();
+    }
+}
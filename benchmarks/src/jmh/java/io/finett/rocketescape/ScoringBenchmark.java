@@ -0,0 +1,72 @@
+package io.finett.rocketescape;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Scoring work FirstScreen does for every passed spike: the point calculation and the four score achievement rules,
+ * plus the difficulty rule evaluated whenever the score raises the difficulty. Measured with every achievement locked
+ * (the rule is evaluated and fails) and with every achievement already unlocked (only the unlocked lookup runs).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScoringBenchmark implements AchievementTracker.Listener {
+    @Param({"false", "true"})
+    public boolean unlocked;
+
+    private Main game;
+    private AchievementTracker tracker;
+    private GameSimulation simulation;
+    private int unlockedNow;
+
+    @Setup
+    public void setUp() {
+        game = BenchmarkGame.create();
+        game.resetAllAchievements();
+        if (unlocked) {
+            for (Achievement achievement : Achievement.values()) {
+                game.unlockAchievement(achievement);
+            }
+        }
+        tracker = new AchievementTracker(game, this);
+        // A fresh run: score 0 and 1.0x difficulty, so locked rules never unlock mid-measurement
+        simulation = new GameSimulation(GameMode.CLASSIC, BenchmarkWorld.WIDTH, BenchmarkWorld.HEIGHT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        game.resetAllAchievements();
+    }
+
+    @Benchmark
+    public int calculatePoints() {
+        return simulation.calculatePoints() + simulation.calculateBonusPoints();
+    }
+
+    @Benchmark
+    public int checkScoredSpike() {
+        tracker.scoreChanged(simulation);
+        return unlockedNow;
+    }
+
+    @Benchmark
+    public int checkAchievement() {
+        tracker.difficultyChanged(simulation);
+        return unlockedNow;
+    }
+
+    @Override
+    public void onAchievementUnlocked(Achievement achievement) {
+        unlockedNow++;
+    }
+}
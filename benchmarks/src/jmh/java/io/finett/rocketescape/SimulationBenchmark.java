@@ -0,0 +1,54 @@
+package io.finett.rocketescape;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Per-tick gameplay update (the old FirstScreen.updateGame) and the work it triggers. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SimulationBenchmark {
+    // Fewer ticks than it takes the leftmost spike to leave the screen at MAX_DIFFICULTY
+    private static final int TICKS_PER_RESTORE = 16;
+
+    @Param({"2", "16", "64", "256"})
+    public int obstacles;
+
+    private BenchmarkWorld world;
+
+    @Setup
+    public void setUp() {
+        world = new BenchmarkWorld(GameMode.ZEN, obstacles);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TICKS_PER_RESTORE)
+    public int step() {
+        world.restore();
+        GameSimulation simulation = world.simulation;
+        for (int i = 0; i < TICKS_PER_RESTORE; i++) {
+            world.autopilot();
+            simulation.step();
+        }
+        return simulation.getScore();
+    }
+
+    @Benchmark
+    public int spawnSpikes() {
+        GameSimulation simulation = world.simulation;
+        if (simulation.getSpikes().size() >= obstacles + 64) {
+            world.restore();
+        }
+        simulation.spawnSpikes();
+        return simulation.getSpikes().size();
+    }
+}
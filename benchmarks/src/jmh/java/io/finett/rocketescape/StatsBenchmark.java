@@ -0,0 +1,47 @@
+package io.finett.rocketescape;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Stats updates made on the render thread during a run. {@code newBestCombo} is what every passed spike costs
+ * while the player is extending their best combo ever.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StatsBenchmark {
+    private Main game;
+    private int combo;
+
+    @Setup
+    public void setUp() {
+        game = BenchmarkGame.create();
+        game.resetAllAchievements();
+    }
+
+    @TearDown
+    public void tearDown() {
+        game.resetAllAchievements();
+    }
+
+    @Benchmark
+    public int newBestCombo() {
+        game.updateMaxCombo(++combo);
+        return combo;
+    }
+
+    @Benchmark
+    public int powerUpCollected() {
+        game.incrementPowerupsCollected();
+        return game.getTotalPowerups();
+    }
+}
@@ -0,0 +1,237 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.Matrix4;
+
+/**
+ * A {@link Batch} that copies submitted vertices into a buffer like {@link com.badlogic.gdx.graphics.g2d.SpriteBatch}
+ * does, but never flushes to GL. Lets the HUD suites measure text drawing without the GL stand-in's own allocations.
+ * Only the vertex-array draw used by font caches and the stretched region draw used by the HUD bars are supported.
+ */
+final class VertexSinkBatch implements Batch {
+    private final float[] vertices = new float[20 * 1000];
+    private final float[] sprite = new float[20];
+    private final Color color = new Color(1, 1, 1, 1);
+    private final Matrix4 projection = new Matrix4();
+    private final Matrix4 transform = new Matrix4();
+    private int index;
+    private boolean drawing;
+
+    /** Vertex floats received since the last {@link #begin()}, wrapping at the buffer size. */
+    int getVertexCount() {
+        return index;
+    }
+
+    @Override
+    public void begin() {
+        drawing = true;
+        index = 0;
+    }
+
+    @Override
+    public void end() {
+        drawing = false;
+    }
+
+    @Override
+    public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
+        while (count > 0) {
+            if (index == vertices.length) index = 0;
+            int copy = Math.min(count, vertices.length - index);
+            System.arraycopy(spriteVertices, offset, vertices, index, copy);
+            index += copy;
+            offset += copy;
+            count -= copy;
+        }
+    }
+
+    @Override
+    public void setColor(Color tint) {
+        color.set(tint);
+    }
+
+    @Override
+    public void setColor(float r, float g, float b, float a) {
+        color.set(r, g, b, a);
+    }
+
+    @Override
+    public Color getColor() {
+        return color;
+    }
+
+    @Override
+    public void setPackedColor(float packedColor) {
+        Color.abgr8888ToColor(color, packedColor);
+    }
+
+    @Override
+    public float getPackedColor() {
+        return color.toFloatBits();
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float originX, float originY, float width, float height,
+        float scaleX, float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX,
+        boolean flipY) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth,
+        int srcHeight, boolean flipX, boolean flipY) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2,
+        float v2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float width, float height) {
+        // The quad SpriteBatch builds for the same call
+        float packedColor = color.toFloatBits();
+        float x2 = x + width;
+        float y2 = y + height;
+        setVertex(0, x, y, packedColor, region.getU(), region.getV2());
+        setVertex(5, x, y2, packedColor, region.getU(), region.getV());
+        setVertex(10, x2, y2, packedColor, region.getU2(), region.getV());
+        setVertex(15, x2, y, packedColor, region.getU2(), region.getV2());
+        draw(region.getTexture(), sprite, 0, sprite.length);
+    }
+
+    private void setVertex(int offset, float x, float y, float packedColor, float u, float v) {
+        sprite[offset] = x;
+        sprite[offset + 1] = y;
+        sprite[offset + 2] = packedColor;
+        sprite[offset + 3] = u;
+        sprite[offset + 4] = v;
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+        float scaleX, float scaleY, float rotation) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+        float scaleX, float scaleY, float rotation, boolean clockwise) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void draw(TextureRegion region, float width, float height, Affine2 transform) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void disableBlending() {
+    }
+
+    @Override
+    public void enableBlending() {
+    }
+
+    @Override
+    public void setBlendFunction(int srcFunc, int dstFunc) {
+    }
+
+    @Override
+    public void setBlendFunctionSeparate(int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+    }
+
+    @Override
+    public int getBlendSrcFunc() {
+        return 0;
+    }
+
+    @Override
+    public int getBlendDstFunc() {
+        return 0;
+    }
+
+    @Override
+    public int getBlendSrcFuncAlpha() {
+        return 0;
+    }
+
+    @Override
+    public int getBlendDstFuncAlpha() {
+        return 0;
+    }
+
+    @Override
+    public Matrix4 getProjectionMatrix() {
+        return projection;
+    }
+
+    @Override
+    public Matrix4 getTransformMatrix() {
+        return transform;
+    }
+
+    @Override
+    public void setProjectionMatrix(Matrix4 projection) {
+        this.projection.set(projection);
+    }
+
+    @Override
+    public void setTransformMatrix(Matrix4 transform) {
+        this.transform.set(transform);
+    }
+
+    @Override
+    public void setShader(ShaderProgram shader) {
+    }
+
+    @Override
+    public ShaderProgram getShader() {
+        return null;
+    }
+
+    @Override
+    public boolean isBlendingEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean isDrawing() {
+        return drawing;
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
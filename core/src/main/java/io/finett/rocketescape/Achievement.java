@@ -15,6 +15,8 @@ public enum Achievement {
     private final String name;
     private final String description;
     private final int requirement;
+    // Built once so lookups never concatenate
+    private final String preferenceKey = "achievement_" + name();
 
     Achievement(String name, String description, int requirement) {
         this.name = name;
@@ -33,4 +35,8 @@ public enum Achievement {
     public int getRequirement() {
         return requirement;
     }
+
+    String getPreferenceKey() {
+        return preferenceKey;
+    }
 }
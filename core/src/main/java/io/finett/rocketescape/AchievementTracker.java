@@ -0,0 +1,109 @@
+package io.finett.rocketescape;
+
+/**
+ * Evaluates achievement rules against a run and unlocks them in the player's saved stats. Rules are grouped by the
+ * stat that can make them pass, and each event only evaluates its own group, skipping rules already unlocked.
+ */
+public class AchievementTracker {
+    /** Told about every newly unlocked achievement, e.g. to announce it. */
+    public interface Listener {
+        void onAchievementUnlocked(Achievement achievement);
+    }
+
+    private static final Achievement[] SCORE_RULES = {
+        Achievement.SURVIVOR_50, Achievement.SURVIVOR_100, Achievement.SURVIVOR_200, Achievement.NO_DAMAGE
+    };
+    private static final Achievement[] COMBO_RULES = {
+        Achievement.COMBO_MASTER_10, Achievement.COMBO_MASTER_25
+    };
+
+    private final Main game;
+    private final Listener listener;
+
+    public AchievementTracker(Main game, Listener listener) {
+        this.game = game;
+        this.listener = listener;
+    }
+
+    /** A run started; call after the games played stat is incremented. */
+    public void gameStarted(GameSimulation simulation) {
+        check(Achievement.FIRST_FLIGHT, simulation);
+    }
+
+    public void scoreChanged(GameSimulation simulation) {
+        check(SCORE_RULES, simulation);
+    }
+
+    public void maxComboChanged(GameSimulation simulation) {
+        check(COMBO_RULES, simulation);
+    }
+
+    /** A power-up was collected; call after the total power-ups stat is incremented. */
+    public void powerUpCollected(GameSimulation simulation) {
+        check(Achievement.POWERUP_COLLECTOR, simulation);
+    }
+
+    public void difficultyChanged(GameSimulation simulation) {
+        check(Achievement.SPEED_DEMON, simulation);
+    }
+
+    public void rocketHit(GameSimulation simulation) {
+        if (simulation.getGameMode() == GameMode.HARDCORE) {
+            check(Achievement.HARDCORE_SURVIVOR, simulation);
+        }
+    }
+
+    private void check(Achievement[] rules, GameSimulation simulation) {
+        for (Achievement achievement : rules) {
+            check(achievement, simulation);
+        }
+    }
+
+    /** Unlocks {@code achievement} if its rule holds for the run; returns true only when it was newly unlocked. */
+    public boolean check(Achievement achievement, GameSimulation simulation) {
+        if (game.isAchievementUnlocked(achievement)) {
+            return false;
+        }
+
+        boolean unlock = false;
+
+        switch (achievement) {
+            case FIRST_FLIGHT:
+                unlock = game.getGamesPlayed() >= 1;
+                break;
+            case COMBO_MASTER_10:
+                unlock = simulation.getMaxCombo() >= 10;
+                break;
+            case COMBO_MASTER_25:
+                unlock = simulation.getMaxCombo() >= 25;
+                break;
+            case SURVIVOR_50:
+                unlock = simulation.getScore() >= 50;
+                break;
+            case SURVIVOR_100:
+                unlock = simulation.getScore() >= 100;
+                break;
+            case SURVIVOR_200:
+                unlock = simulation.getScore() >= 200;
+                break;
+            case NO_DAMAGE:
+                unlock = !simulation.isDamageThisRun() && simulation.getScore() >= 30;
+                break;
+            case SPEED_DEMON:
+                unlock = simulation.getDifficultyMultiplier() >= 2.0f;
+                break;
+            case POWERUP_COLLECTOR:
+                unlock = game.getTotalPowerups() >= 10;
+                break;
+            case HARDCORE_SURVIVOR:
+                unlock = simulation.getLives() == GameSimulation.MAX_LIVES - 1 && simulation.getScore() >= 50;
+                break;
+        }
+
+        if (unlock) {
+            game.unlockAchievement(achievement);
+            listener.onAchievementUnlocked(achievement);
+        }
+        return unlock;
+    }
+}
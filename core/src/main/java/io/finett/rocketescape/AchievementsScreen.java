@@ -7,7 +7,6 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 
@@ -54,26 +53,11 @@ public class AchievementsScreen implements Screen {
     public void show() {
         batch = new SpriteBatch();
         shapeRenderer = new ShapeRenderer();
-        background = new Texture("space-bg.png");
+        background = game.getAssets().acquireTexture(Assets.BACKGROUND);
 
-        FreeTypeFontGenerator generator = null;
-        try {
-            generator = new FreeTypeFontGenerator(Gdx.files.internal("PressStart2P-Regular.ttf"));
-            FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-
-            parameter.size = 36;
-            titleFont = generator.generateFont(parameter);
-
-            parameter.size = 18;
-            menuFont = generator.generateFont(parameter);
-
-            parameter.size = 14;
-            smallFont = generator.generateFont(parameter);
-        } finally {
-            if (generator != null) {
-                generator.dispose();
-            }
-        }
+        titleFont = game.getFonts().get(36);
+        menuFont = game.getFonts().get(18);
+        smallFont = game.getFonts().get(14);
 
         titleLayout = new GlyphLayout();
         backLayout = new GlyphLayout();
@@ -351,9 +335,6 @@ public class AchievementsScreen implements Screen {
     public void dispose() {
         if (batch != null) batch.dispose();
         if (shapeRenderer != null) shapeRenderer.dispose();
-        if (background != null) background.dispose();
-        if (titleFont != null) titleFont.dispose();
-        if (menuFont != null) menuFont.dispose();
-        if (smallFont != null) smallFont.dispose();
+        if (background != null) game.getAssets().release(Assets.BACKGROUND);
     }
 }
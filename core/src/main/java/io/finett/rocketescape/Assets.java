@@ -0,0 +1,187 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.ParticleEffectLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Game-wide asset service backed by an {@link AssetManager}. Everything listed in the generated {@code assets.txt}
+ * is queued at startup and decoded in the background while {@link #update()} runs each frame; the preload keeps one
+ * reference to each asset, so screens that acquire and release them never unload them and every file is decoded
+ * once per process.
+ */
+final class Assets implements Disposable {
+    static final String BACKGROUND = "space-bg.png";
+    static final String ROCKET = "rocket.png";
+    static final String ROCKET_TRAIL = "particles/rocket-trail.p";
+    static final int SPIKE_COUNT = 5;
+    // Written by the tools module's bakeAssets task
+    static final String BAKED_DIRECTORY = "baked/";
+    static final String ATLAS = BAKED_DIRECTORY + "game.atlas";
+
+    private static final String ASSET_LIST = "assets.txt";
+
+    private final AssetManager manager = new AssetManager();
+    private boolean atlasMissing;
+
+    static String spike(int index) {
+        return "spike_" + (index + 1) + ".png";
+    }
+
+    /** Queues every texture and particle effect in {@code assets.txt}; does nothing if the list was not generated. */
+    void preload() {
+        FileHandle list = Gdx.files.internal(ASSET_LIST);
+        if (!list.exists()) return;
+
+        // Images packed into the baked atlas come with it; loading them on their own would decode them twice
+        Array<TextureAtlas.TextureAtlasData.Region> packed = new Array<TextureAtlas.TextureAtlasData.Region>();
+        FileHandle atlasFile = Gdx.files.internal(ATLAS);
+        if (atlasFile.exists()) {
+            packed = new TextureAtlas.TextureAtlasData(atlasFile, atlasFile.parent(), false).getRegions();
+        }
+
+        for (String line : list.readString("UTF-8").split("\n")) {
+            String path = line.trim();
+            if (path.endsWith(".atlas")) {
+                manager.load(path, TextureAtlas.class);
+            } else if (path.startsWith(BAKED_DIRECTORY)) {
+                // Atlas pages load with their atlas
+            } else if (path.endsWith(".png")) {
+                if (!isPacked(packed, path)) {
+                    manager.load(path, Texture.class);
+                }
+            } else if (path.endsWith(".p")) {
+                manager.load(path, ParticleEffect.class, particleParameter(path));
+            }
+        }
+    }
+
+    /** Advances background loading; call once per frame. Returns true once everything queued is loaded. */
+    boolean update() {
+        return manager.update();
+    }
+
+    /**
+     * Returns the texture at {@code path} and takes a reference to it, finishing its load now if the preload has not
+     * reached it yet. Every acquire must be paired with a {@link #release(String)}.
+     */
+    Texture acquireTexture(String path) {
+        if (!retain(path, Texture.class)) {
+            manager.load(path, Texture.class);
+            manager.finishLoadingAsset(path);
+        }
+        return manager.get(path, Texture.class);
+    }
+
+    /**
+     * The image at {@code path} as a region of the baked atlas, so it batches with every other atlas sprite and the
+     * baked fonts; without a baked atlas it is the whole texture. Pair with {@link #releaseRegion(String)}.
+     */
+    TextureRegion acquireRegion(String path) {
+        TextureAtlas atlas = getAtlas();
+        if (atlas != null) {
+            TextureRegion region = atlas.findRegion(regionName(path), regionIndex(path));
+            if (region != null) return region;
+        }
+        return new TextureRegion(acquireTexture(path));
+    }
+
+    /** Drops a reference taken by {@link #acquireRegion(String)}; atlas regions stay loaded with the atlas. */
+    void releaseRegion(String path) {
+        TextureAtlas atlas = getAtlas();
+        if (atlas == null || atlas.findRegion(regionName(path), regionIndex(path)) == null) {
+            release(path);
+        }
+    }
+
+    /** Like {@link #acquireTexture(String)} for a particle effect, whose images are looked up next to it. */
+    ParticleEffect acquireParticleEffect(String path) {
+        if (!retain(path, ParticleEffect.class)) {
+            manager.load(path, ParticleEffect.class, particleParameter(path));
+            manager.finishLoadingAsset(path);
+        }
+        return manager.get(path, ParticleEffect.class);
+    }
+
+    // Takes a reference to an asset that is already loaded without going through the load queue
+    private boolean retain(String path, Class<?> type) {
+        if (!manager.isLoaded(path, type)) return false;
+        manager.setReferenceCount(path, manager.getReferenceCount(path) + 1);
+        return true;
+    }
+
+    /**
+     * The atlas baked at build time, loaded now if the preload has not reached it yet; null when the assets were not
+     * baked. The service keeps it loaded for the whole process.
+     */
+    TextureAtlas getAtlas() {
+        if (atlasMissing) return null;
+        if (!manager.isLoaded(ATLAS, TextureAtlas.class)) {
+            if (!Gdx.files.internal(ATLAS).exists()) {
+                atlasMissing = true;
+                return null;
+            }
+            manager.load(ATLAS, TextureAtlas.class);
+            manager.finishLoadingAsset(ATLAS);
+        }
+        return manager.get(ATLAS, TextureAtlas.class);
+    }
+
+    /** Drops a reference taken by an acquire; the asset is only unloaded when nothing else holds it. */
+    void release(String path) {
+        if (manager.isLoaded(path)) {
+            manager.unload(path);
+        }
+    }
+
+    private static ParticleEffectLoader.ParticleEffectParameter particleParameter(String path) {
+        ParticleEffectLoader.ParticleEffectParameter parameter = new ParticleEffectLoader.ParticleEffectParameter();
+        if (Gdx.files.internal(ATLAS).exists()) {
+            parameter.atlasFile = ATLAS;
+        } else {
+            parameter.imagesDir = Gdx.files.internal(path).parent();
+        }
+        return parameter;
+    }
+
+    private static boolean isPacked(Array<TextureAtlas.TextureAtlasData.Region> regions, String path) {
+        String name = regionName(path);
+        int index = regionIndex(path);
+        for (TextureAtlas.TextureAtlasData.Region region : regions) {
+            if (region.index == index && region.name.equals(name)) return true;
+        }
+        return false;
+    }
+
+    // TexturePacker names a region after its image file, reading a trailing _<number> as the region's index
+    private static String regionName(String path) {
+        String name = Gdx.files.internal(path).nameWithoutExtension();
+        int underscore = name.lastIndexOf('_');
+        return regionIndex(name, underscore) >= 0 ? name.substring(0, underscore) : name;
+    }
+
+    private static int regionIndex(String path) {
+        String name = Gdx.files.internal(path).nameWithoutExtension();
+        return regionIndex(name, name.lastIndexOf('_'));
+    }
+
+    private static int regionIndex(String name, int underscore) {
+        if (underscore < 0 || underscore == name.length() - 1) return -1;
+        for (int i = underscore + 1; i < name.length(); i++) {
+            if (!Character.isDigit(name.charAt(i))) return -1;
+        }
+        return Integer.parseInt(name.substring(underscore + 1));
+    }
+
+    @Override
+    public void dispose() {
+        manager.dispose();
+    }
+}
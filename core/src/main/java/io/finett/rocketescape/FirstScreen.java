@@ -1,5 +1,6 @@
 package io.finett.rocketescape;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
@@ -7,82 +8,56 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.ParticleEffect;
-import com.badlogic.gdx.graphics.g2d.ParticleEffectPool;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
 
-public class FirstScreen implements Screen {
+/** Gameplay screen: renders a {@link GameSimulation} and feeds it player input. */
+public class FirstScreen implements Screen, GameSimulation.Listener, AchievementTracker.Listener {
     private final Main game;
+    private GameSimulation simulation;
 
     private SpriteBatch batch;
-    private ShapeRenderer shapeRenderer;
     private Texture background;
-    private Texture rocket;
-    private Texture[] spikes;
+    private TextureRegion rocket;
+    private TextureRegion[] spikes;
+    // HUD shapes, drawn as sprites in the same batch
+    private TextureRegion heart;
+    private TextureRegion pixel;
+    private PowerUpGlow powerUpGlow;
+    private ParallaxBackground parallaxBackground;
     private BitmapFont font;
     private BitmapFont comboFont;
 
-    private Rectangle rocketRect;
-    private Array<SpikeData> spikeData;
-    private float rocketY;
-    private float rocketVelocity;
-    private float gravity;
-    private float spikeTimer;
-    private float nextSpikeDelay;
-    private int score;
-    private boolean gameOver;
+    // Fixed-step simulation driving
+    private static final int TICK_RATE = GameSimulation.DEFAULT_TICK_RATE;
+    private static final float MAX_FRAME_TIME = 0.25f;
+    private static final int MAX_STEPS_PER_FRAME = 5;
+    private float accumulator;
+
+    // Every run is recorded; the last one is kept so it can be replayed
+    private static final String REPLAY_FILE = "replays/last.replay";
+    private Replay replay;
+
     private boolean ready;
     private boolean go;
     private float readyTimer;
     private float goTimer;
 
     private ParticleEffect particleEffect;
-    private ParticleEffectPool particleEffectPool;
-    private Pool<ParticleEffectPool.PooledEffect> particleEffects;
+    private ParticleManager rocketTrail;
+    // Budget for the flap bursts, so fast tapping cannot grow the frame time
+    private static final int MAX_TRAIL_EFFECTS = 12;
+    private static final int MAX_TRAIL_PARTICLES = 300;
+    private static final float TRAIL_BURST_TIME = 0.2f;
 
     private Array<ScorePopup> scorePopups;
     private float shakeTimer;
     private float shakeIntensity;
 
-    // Lives system
-    private int lives;
-    private static final int MAX_LIVES = 3;
-    private float invulnerabilityTimer;
-    private static final float INVULNERABILITY_TIME = 2.0f;
-
-    // Difficulty progression
-    private float difficultyMultiplier;
-    private static final float DIFFICULTY_INCREASE_RATE = 0.01f;
-    private static final float MAX_DIFFICULTY = 2.5f;
-    private static final float BASE_SPIKE_SPEED = 200f;
-
-    // Combo system constants
-    private int combo;
-    private int maxCombo;
-    private float comboTimer;
-    private boolean comboExpiring;
-    private static final float COMBO_TIMEOUT = 5f;
-    private static final float COMBO_EXPIRING_THRESHOLD = 1.5f;
-    private static final int COMBO_THRESHOLD = 3;
-    private static final int COMBO_BONUS_MULTIPLIER = 2;
-    private static final int MAX_COMBO_VALUE = 999;
-
-    private static final float ROCKET_SIZE = 64;
-    private float spikeWidth;
-    private float spikeGap;
-    private static final float SPIKE_SPACING = 300;
-
-    // Obstacle spacing constants
-    private static final float MIN_SPIKE_DELAY = 2.0f;
-    private static final float MAX_SPIKE_DELAY = 4.5f;
-
     private static final float BACKGROUND_BRIGHTNESS = 0.5f;
     private static final float DEFAULT_BRIGHTNESS = 1f;
 
@@ -110,12 +85,23 @@ public class FirstScreen implements Screen {
     private static final float HEART_EMPTY_B = 0.3f;
 
     // Cached GlyphLayouts
-    private GlyphLayout comboLayout;
     private GlyphLayout readyLayout;
     private GlyphLayout goLayout;
     private GlyphLayout gameOverLayout;
     private GlyphLayout restartLayout;
-    private GlyphLayout difficultyLayout;
+    private GlyphLayout holdLayout;
+
+    // HUD text, re-laid out only when the displayed value changes
+    private HudText scoreText;
+    private HudText timeText;
+    private HudText difficultyText;
+    private HudText comboText;
+    private HudText achievementTitleText;
+    private HudText achievementNameText;
+    private PowerUpHud powerUpHud;
+    // Shown when the app logs at debug level
+    private HudText renderCallsText;
+    private int renderCalls;
 
     // Colors for score popups
     private static final float COMBO_COLOR_R = 1f;
@@ -131,57 +117,19 @@ public class FirstScreen implements Screen {
     private static final float PAUSE_BUTTON_SIZE = 50f;
     private static final float PAUSE_BUTTON_MARGIN = 10f;
 
-    // Power-ups
-    private Array<PowerUp> activePowerUps;
-    private Array<PowerUp> powerUpsOnScreen;
-    private float powerUpSpawnTimer;
-    private static final float POWERUP_SPAWN_INTERVAL = 15f;
-    private float slowTimeMultiplier;
-    private int scoreMultiplier;
     private boolean initialized = false;
 
     // Achievements tracking
-    private boolean damageThisRun;
+    private final AchievementTracker achievements;
     private Array<Achievement> justUnlocked;
     private Achievement currentDisplayAchievement;
     private float achievementDisplayTimer;
     private static final float ACHIEVEMENT_DISPLAY_TIME = 3.0f;
+    private static final float ACHIEVEMENT_BORDER = 3f;
+    private final Rectangle achievementBox = new Rectangle();
 
     // Game Mode
     private GameMode gameMode;
-    private float timeAttackTimer;
-    private static final float TIME_ATTACK_LIMIT = 60f;
-
-    private class SpikeData {
-        Rectangle rect;
-        int textureIndex;
-        boolean isTop;
-        Vector2 p1, p2, p3;
-        boolean scored;
-
-        public SpikeData(Rectangle rect, int textureIndex, boolean isTop) {
-            this.rect = rect;
-            this.textureIndex = textureIndex;
-            this.isTop = isTop;
-            this.p1 = new Vector2();
-            this.p2 = new Vector2();
-            this.p3 = new Vector2();
-            this.scored = false;
-            updateTriangle();
-        }
-
-        public void updateTriangle() {
-            if (isTop) {
-                p1.set(rect.x, rect.y + rect.height);
-                p2.set(rect.x + rect.width, rect.y + rect.height);
-                p3.set(rect.x + rect.width / 2, rect.y);
-            } else {
-                p1.set(rect.x, rect.y);
-                p2.set(rect.x + rect.width, rect.y);
-                p3.set(rect.x + rect.width / 2, rect.y + rect.height);
-            }
-        }
-    }
 
     private class ScorePopup {
         String text;
@@ -219,18 +167,6 @@ public class FirstScreen implements Screen {
         }
     }
 
-    private class PowerUp {
-        Rectangle rect;
-        PowerUpType type;
-        float animTimer;
-
-        public PowerUp(float x, float y, PowerUpType type) {
-            this.rect = new Rectangle(x, y, 40, 40);
-            this.type = type;
-            this.animTimer = 0;
-        }
-    }
-
     // Default constructor (Classic mode)
     public FirstScreen(Main game) {
         this(game, GameMode.CLASSIC);
@@ -240,6 +176,7 @@ public class FirstScreen implements Screen {
     public FirstScreen(Main game, GameMode gameMode) {
         this.game = game;
         this.gameMode = gameMode;
+        this.achievements = new AchievementTracker(game, this);
     }
 
     @Override
@@ -247,65 +184,54 @@ public class FirstScreen implements Screen {
         // Only initialize resources once
         if (!initialized) {
             batch = new SpriteBatch();
-            shapeRenderer = new ShapeRenderer();
-            background = new Texture("space-bg.png");
-            rocket = new Texture("rocket.png");
+            background = game.getAssets().acquireTexture(Assets.BACKGROUND);
+            // Sprites and fonts share the baked atlas page, so the frame does not flush between them
+            rocket = game.getAssets().acquireRegion(Assets.ROCKET);
 
-            spikes = new Texture[5];
-            for (int i = 0; i < 5; i++) {
-                spikes[i] = new Texture("spike_" + (i + 1) + ".png");
+            spikes = new TextureRegion[Assets.SPIKE_COUNT];
+            for (int i = 0; i < spikes.length; i++) {
+                spikes[i] = game.getAssets().acquireRegion(Assets.spike(i));
             }
 
-            spikeWidth = Gdx.graphics.getWidth() * 0.08f;
-            spikeGap = Gdx.graphics.getHeight() * 0.25f;
-
-            // Safe font generation with try-finally
-            FreeTypeFontGenerator generator = null;
-            try {
-                generator = new FreeTypeFontGenerator(Gdx.files.internal("PressStart2P-Regular.ttf"));
-                FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-                parameter.size = 24;
-                font = generator.generateFont(parameter);
-
-                parameter.size = 32;
-                comboFont = generator.generateFont(parameter);
-            } finally {
-                if (generator != null) {
-                    generator.dispose();
-                }
-            }
+            heart = game.getHudWidgets().heart();
+            powerUpGlow = game.getPowerUpGlow();
+            parallaxBackground = game.getParallaxBackground();
+            pixel = game.getHudWidgets().pixel();
+
+            font = game.getFonts().get(24);
+            comboFont = game.getFonts().get(32);
 
             // Initialize cached GlyphLayouts
-            comboLayout = new GlyphLayout();
             readyLayout = new GlyphLayout();
             goLayout = new GlyphLayout();
             gameOverLayout = new GlyphLayout();
             restartLayout = new GlyphLayout();
-            difficultyLayout = new GlyphLayout();
+            holdLayout = new GlyphLayout();
 
             // Pre-compute static text layouts
             readyLayout.setText(font, "READY?");
             goLayout.setText(font, "GO!");
             gameOverLayout.setText(font, "GAME OVER");
             restartLayout.setText(font, "Tap to restart");
+            font.setColor(0.7f, 0.7f, 0.7f, 1f);
+            holdLayout.setText(font, "Hold for menu");
+            font.setColor(1, 1, 1, 1);
 
-            rocketRect = new Rectangle();
-            spikeData = new Array<SpikeData>();
-            scorePopups = new Array<ScorePopup>();
+            scoreText = new HudText(font, "Score: ");
+            timeText = new HudText(font);
+            difficultyText = new HudText(font, "x");
+            comboText = new HudText(comboFont, "COMBO x");
+            achievementTitleText = new HudText(font);
+            achievementTitleText.setText("ACHIEVEMENT UNLOCKED!");
+            achievementNameText = new HudText(font);
+            renderCallsText = new HudText(font, "Render calls: ");
+            powerUpHud = new PowerUpHud(font);
 
-            activePowerUps = new Array<PowerUp>();
-            powerUpsOnScreen = new Array<PowerUp>();
+            scorePopups = new Array<ScorePopup>();
             justUnlocked = new Array<Achievement>();
 
-            particleEffect = new ParticleEffect();
-            particleEffect.load(Gdx.files.internal("particles/rocket-trail.p"), Gdx.files.internal("particles"));
-            particleEffectPool = new ParticleEffectPool(particleEffect, 1, 10);
-            particleEffects = new Pool<ParticleEffectPool.PooledEffect>() {
-                @Override
-                protected ParticleEffectPool.PooledEffect newObject() {
-                    return particleEffectPool.obtain();
-                }
-            };
+            particleEffect = game.getAssets().acquireParticleEffect(Assets.ROCKET_TRAIL);
+            rocketTrail = new ParticleManager(particleEffect, MAX_TRAIL_EFFECTS, MAX_TRAIL_PARTICLES, TRAIL_BURST_TIME);
 
             // Initialize pause button
             pauseButton = new Rectangle(
@@ -315,112 +241,63 @@ public class FirstScreen implements Screen {
                 PAUSE_BUTTON_SIZE
             );
 
+            simulation = new GameSimulation(gameMode, Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), TICK_RATE);
+            simulation.setRocketSize(GameSimulation.ROCKET_SIZE,
+                GameSimulation.ROCKET_SIZE * ((float)rocket.getRegionHeight() / rocket.getRegionWidth()));
+            simulation.setListener(this);
+
             resetGame();
             initialized = true;
         }
     }
 
     private void resetGame() {
-        rocketY = Gdx.graphics.getHeight() / 2;
-        rocketVelocity = 0;
-        gravity = -15f;
-        spikeTimer = 0;
-
-        // Game Mode specific initialization
-        lives = gameMode.getLives();
-        difficultyMultiplier = gameMode.getStartingDifficulty();
-        timeAttackTimer = TIME_ATTACK_LIMIT;
-        scoreMultiplier = (gameMode == GameMode.HARDCORE) ? 2 : 1;
-
-        nextSpikeDelay = getRandomSpikeDelay();
-        score = 0;
-        combo = 0;
-        maxCombo = 0;
-        comboTimer = 0;
-        comboExpiring = false;
-        gameOver = false;
+        simulation.reset();
+        replay = Replay.record(simulation);
+        rocketTrail.clear();
+        accumulator = 0;
+
         ready = true;
         go = false;
         readyTimer = 0;
         goTimer = 0;
         shakeTimer = 0;
         shakeIntensity = 0;
-        invulnerabilityTimer = 0;
         holdTimer = 0;
-        powerUpSpawnTimer = 0;
-        slowTimeMultiplier = 1.0f;
-        damageThisRun = false;
         achievementDisplayTimer = 0;
         currentDisplayAchievement = null;
 
         // Track game played
         game.incrementGamesPlayed();
-        checkAchievement(Achievement.FIRST_FLIGHT);
+        achievements.gameStarted(simulation);
 
-        float rocketWidth = ROCKET_SIZE;
-        float rocketHeight = ROCKET_SIZE * ((float)rocket.getHeight() / rocket.getWidth());
-        rocketRect.set(Gdx.graphics.getWidth() / 4, rocketY, rocketWidth, rocketHeight);
-
-        spikeData.clear();
         scorePopups.clear();
-        activePowerUps.clear();
-        powerUpsOnScreen.clear();
         justUnlocked.clear();
     }
 
-    private float getRandomSpikeDelay() {
-        float adjustedMinDelay = Math.max(1.0f, MIN_SPIKE_DELAY / difficultyMultiplier);
-        float adjustedMaxDelay = Math.max(1.5f, MAX_SPIKE_DELAY / difficultyMultiplier);
-        return MathUtils.random(adjustedMinDelay, adjustedMaxDelay);
-    }
-
-    private void updateDifficulty() {
-        difficultyMultiplier = Math.min(MAX_DIFFICULTY, gameMode.getStartingDifficulty() + (score * DIFFICULTY_INCREASE_RATE));
-
-        // Check speed demon achievement
-        if (difficultyMultiplier >= 2.0f) {
-            checkAchievement(Achievement.SPEED_DEMON);
-        }
-    }
-
-    private float getCurrentSpikeSpeed() {
-        return BASE_SPIKE_SPEED * difficultyMultiplier * slowTimeMultiplier;
-    }
-
+    // Expects the batch to be drawing; leaves its colour tinted
     private void drawHeart(float x, float y, float size, boolean filled) {
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-
         if (filled) {
-            shapeRenderer.setColor(HEART_FULL_R, HEART_FULL_G, HEART_FULL_B, 1f);
+            batch.setColor(HEART_FULL_R, HEART_FULL_G, HEART_FULL_B, 1f);
         } else {
-            shapeRenderer.setColor(HEART_EMPTY_R, HEART_EMPTY_G, HEART_EMPTY_B, 1f);
+            batch.setColor(HEART_EMPTY_R, HEART_EMPTY_G, HEART_EMPTY_B, 1f);
         }
-
-        float halfSize = size / 2;
-        float quarterSize = size / 4;
-
-        shapeRenderer.circle(x + quarterSize, y + halfSize, quarterSize, 20);
-        shapeRenderer.circle(x + halfSize + quarterSize, y + halfSize, quarterSize, 20);
-        shapeRenderer.triangle(
-            x, y + halfSize,
-            x + size, y + halfSize,
-            x + halfSize, y
-        );
-
-        shapeRenderer.end();
+        batch.draw(heart, x, y, size, size * heart.getRegionHeight() / heart.getRegionWidth());
     }
 
     @Override
     public void render(float delta) {
+        Rectangle rocketRect = simulation.getRocketRect();
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
         // Handle pause button (only when game is active)
-        if (!ready && !go && !gameOver && Gdx.input.justTouched()) {
+        if (!ready && !go && !simulation.isGameOver() && Gdx.input.justTouched()) {
             float touchX = Gdx.input.getX();
             float touchY = Gdx.graphics.getHeight() - Gdx.input.getY();
 
             if (pauseButton.contains(touchX, touchY)) {
+                game.checkpointStats();
                 game.setScreen(new PauseMenuScreen(game, this));
                 return;
             }
@@ -437,13 +314,11 @@ public class FirstScreen implements Screen {
             if (goTimer > 1f) {
                 go = false;
             }
-        } else if (!gameOver) {
-            updateGame(delta);
-        }
-
-        if (invulnerabilityTimer > 0) {
-            invulnerabilityTimer -= delta;
+        } else if (!simulation.isGameOver()) {
+            updateSimulation(delta);
+            updateAchievementDisplay(delta);
         }
+        float interpolation = accumulator / simulation.getTickDelta();
 
         for (int i = 0; i < scorePopups.size; i++) {
             ScorePopup popup = scorePopups.get(i);
@@ -460,72 +335,73 @@ public class FirstScreen implements Screen {
             }
         }
 
-        batch.begin();
+        int combo = simulation.getCombo();
+        boolean gameOver = simulation.isGameOver();
 
         float shakeX = 0;
         if (shakeIntensity > 0) {
-            shakeX = MathUtils.random(-shakeIntensity, shakeIntensity);
+            // Drawn every frame, so it must stay off the gameplay stream
+            shakeX = (simulation.getCosmeticRandom().nextFloat() * 2 - 1) * shakeIntensity;
         }
 
+        Array<GameSimulation.PowerUp> activePowerUps = simulation.getActivePowerUps();
+        powerUpHud.update(activePowerUps);
+        float powerUpUIX = UI_MARGIN + shakeX;
+        float powerUpUIY = Gdx.graphics.getHeight() - 100;
+
+        // The whole frame is one batch pass; HUD shapes are atlas sprites, so only the background and the power-up
+        // glow switch texture or shader
+        batch.begin();
+
         batch.setColor(BACKGROUND_BRIGHTNESS, BACKGROUND_BRIGHTNESS, BACKGROUND_BRIGHTNESS, DEFAULT_BRIGHTNESS);
-        batch.draw(background, shakeX, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        parallaxBackground.draw(batch, background, simulation.getInterpolatedScrollDistance(interpolation), shakeX);
         batch.setColor(DEFAULT_BRIGHTNESS, DEFAULT_BRIGHTNESS, DEFAULT_BRIGHTNESS, DEFAULT_BRIGHTNESS);
 
-        for (SpikeData spike : spikeData) {
-            if (spike.isTop) {
-                batch.draw(spikes[spike.textureIndex], spike.rect.x + shakeX, spike.rect.y, spike.rect.width, spike.rect.height);
+        SpikeBuffer spikeData = simulation.getSpikes();
+        for (int i = spikeData.begin(); i < spikeData.end(); i++) {
+            float spikeX = MathUtils.lerp(spikeData.prevX[i], spikeData.x[i], interpolation);
+            TextureRegion spikeRegion = spikes[spikeData.textureIndex[i]];
+            if (spikeData.top[i]) {
+                batch.draw(spikeRegion, spikeX + shakeX, spikeData.y[i], spikeData.width[i], spikeData.height[i]);
             } else {
-                batch.draw(spikes[spike.textureIndex],
-                    spike.rect.x + shakeX,
-                    spike.rect.y,
-                    spike.rect.width / 2,
-                    spike.rect.height / 2,
-                    spike.rect.width,
-                    spike.rect.height,
+                batch.draw(spikeRegion,
+                    spikeX + shakeX,
+                    spikeData.y[i],
+                    spikeData.width[i] / 2,
+                    spikeData.height[i] / 2,
+                    spikeData.width[i],
+                    spikeData.height[i],
                     1,
                     1,
-                    180,
-                    0,
-                    0,
-                    spikes[spike.textureIndex].getWidth(),
-                    spikes[spike.textureIndex].getHeight(),
-                    false,
-                    false
+                    180
                 );
             }
         }
 
-        batch.end();
-
         // Draw power-ups with pulsing glow effect
-        Gdx.gl.glEnable(GL20.GL_BLEND);
-        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        for (PowerUp powerUp : powerUpsOnScreen) {
-            float pulse = 1.0f + MathUtils.sin(powerUp.animTimer * 5) * 0.2f;
-
-            // Outer glow
-            shapeRenderer.setColor(powerUp.type.getColorR(), powerUp.type.getColorG(), powerUp.type.getColorB(), 0.3f);
-            shapeRenderer.circle(powerUp.rect.x + powerUp.rect.width / 2 + shakeX,
-                powerUp.rect.y + powerUp.rect.height / 2,
-                powerUp.rect.width / 2 * pulse * 1.5f, 20);
-
-            // Main circle
-            shapeRenderer.setColor(powerUp.type.getColorR(), powerUp.type.getColorG(), powerUp.type.getColorB(), 0.8f);
-            shapeRenderer.circle(powerUp.rect.x + powerUp.rect.width / 2 + shakeX,
-                powerUp.rect.y + powerUp.rect.height / 2,
-                powerUp.rect.width / 2 * pulse, 20);
+        Array<GameSimulation.PowerUp> powerUpsOnScreen = simulation.getPowerUpsOnScreen();
+        if (powerUpsOnScreen.size > 0) {
+            float tickTime = interpolation * simulation.getTickDelta();
+            powerUpGlow.begin(batch, simulation.getTick() * simulation.getTickDelta() + tickTime);
+            for (int i = 0; i < powerUpsOnScreen.size; i++) {
+                GameSimulation.PowerUp powerUp = powerUpsOnScreen.get(i);
+                float powerUpX = MathUtils.lerp(powerUp.prevX, powerUp.rect.x, interpolation);
+                powerUpGlow.draw(batch, powerUp.type,
+                    powerUpX + powerUp.rect.width / 2 + shakeX,
+                    powerUp.rect.y + powerUp.rect.height / 2,
+                    powerUp.rect.width / 2, powerUp.animTimer + tickTime);
+            }
+            powerUpGlow.end(batch);
         }
-        shapeRenderer.end();
 
-        batch.begin();
+        // Behind the rocket
+        rocketTrail.draw(batch, delta);
 
-        if (invulnerabilityTimer > 0) {
-            float flashAlpha = (float)Math.sin(invulnerabilityTimer * 20) * 0.5f + 0.5f;
+        if (simulation.getInvulnerabilityTimer() > 0) {
+            float flashAlpha = (float)Math.sin(simulation.getInvulnerabilityTimer() * 20) * 0.5f + 0.5f;
             batch.setColor(1, 1, 1, flashAlpha);
         }
-        batch.draw(rocket, rocketRect.x + shakeX, rocketRect.y, rocketRect.width, rocketRect.height);
+        batch.draw(rocket, rocketRect.x + shakeX, simulation.getInterpolatedRocketY(interpolation), rocketRect.width, rocketRect.height);
         batch.setColor(1, 1, 1, 1);
 
         for (ScorePopup popup : scorePopups) {
@@ -534,199 +410,130 @@ public class FirstScreen implements Screen {
         }
         font.setColor(1, 1, 1, 1);
 
-        font.draw(batch, "Score: " + score, UI_MARGIN + shakeX, Gdx.graphics.getHeight() - UI_MARGIN);
+        scoreText.setInt(simulation.getScore());
+        scoreText.draw(batch, UI_MARGIN + shakeX, Gdx.graphics.getHeight() - UI_MARGIN, 1, 1, 1, 1);
 
         // Draw Time Attack Timer
-        if (gameMode == GameMode.TIME_ATTACK && !gameOver) {
-            String timeText = String.format("%.1f", timeAttackTimer);
-            if (timeAttackTimer < 10) font.setColor(1, 0.3f, 0.3f, 1);
-            font.draw(batch, timeText, Gdx.graphics.getWidth() / 2f - 30 + shakeX, Gdx.graphics.getHeight() - UI_MARGIN);
-            font.setColor(1, 1, 1, 1);
+        if (gameMode == GameMode.TIME_ATTACK && !simulation.isGameOver()) {
+            timeText.setTenths(simulation.getTimeAttackTimer());
+            float timeG = simulation.getTimeAttackTimer() < 10 ? 0.3f : 1f;
+            timeText.draw(batch, Gdx.graphics.getWidth() / 2f - 30 + shakeX, Gdx.graphics.getHeight() - UI_MARGIN, 1, timeG, timeG, 1);
         }
 
-        String difficultyText = String.format("x%.1f", difficultyMultiplier);
-        difficultyLayout.setText(font, difficultyText);
-        font.draw(batch, difficultyText, UI_MARGIN + shakeX, Gdx.graphics.getHeight() - UI_MARGIN - 35);
-
-        batch.end();
+        difficultyText.setTenths(simulation.getDifficultyMultiplier());
+        difficultyText.draw(batch, UI_MARGIN + shakeX, Gdx.graphics.getHeight() - UI_MARGIN - 35, 1, 1, 1, 1);
 
         // Draw active power-ups UI with progress bars
-        float powerUpUIX = UI_MARGIN + shakeX;
-        float powerUpUIY = Gdx.graphics.getHeight() - 100;
-
-        Array<Float> textWidths = new Array<>();
-        GlyphLayout tempLayout = new GlyphLayout();
-        for (PowerUp powerUp : activePowerUps) {
-            String powerUpText = powerUp.type.getName() + " " + (int)Math.ceil(powerUp.animTimer) + "s";
-            tempLayout.setText(font, powerUpText);
-            textWidths.add(tempLayout.width + 10);
-        }
-
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        for (int i = 0; i < activePowerUps.size; i++) {
-            PowerUp powerUp = activePowerUps.get(i);
-            float bgWidth = Math.max(100, textWidths.get(i));
-
-            shapeRenderer.setColor(powerUp.type.getColorR(), powerUp.type.getColorG(), powerUp.type.getColorB(), 0.7f);
-            shapeRenderer.rect(powerUpUIX, powerUpUIY, bgWidth, 30);
-
-            float progress = powerUp.animTimer / powerUp.type.getDuration();
-            shapeRenderer.setColor(1, 1, 1, 0.3f);
-            shapeRenderer.rect(powerUpUIX, powerUpUIY, bgWidth * progress, 4);
-
-            powerUpUIY -= 35;
-        }
-        shapeRenderer.end();
-
-        batch.begin();
-
-        powerUpUIY = Gdx.graphics.getHeight() - 100;
-        for (PowerUp powerUp : activePowerUps) {
-            font.setColor(1, 1, 1, 1);
-            String powerUpText = powerUp.type.getName() + " " + (int)Math.ceil(powerUp.animTimer) + "s";
-
-            if (powerUp.animTimer < 3) {
-                font.setColor(1, 0.3f, 0.3f, 1);
-            }
-
-            font.draw(batch, powerUpText, powerUpUIX + 5, powerUpUIY + 20);
-            font.setColor(1, 1, 1, 1);
-
-            powerUpUIY -= 35;
-        }
+        powerUpHud.drawBars(batch, pixel, activePowerUps, powerUpUIX, powerUpUIY);
+        powerUpHud.drawLabels(batch, activePowerUps, powerUpUIX, powerUpUIY);
 
         if (combo >= 2 && !gameOver && comboFont != null) {
             float comboIntensity = Math.min(1f, (float)combo / 10f);
 
-            if (comboExpiring) {
-                float flash = (float)Math.sin(comboTimer * 10) * 0.5f + 0.5f;
-                comboFont.setColor(1f, flash, flash, 1f);
+            float comboG;
+            float comboB;
+            if (simulation.isComboExpiring()) {
+                float flash = (float)Math.sin(simulation.getComboTimer() * 10) * 0.5f + 0.5f;
+                comboG = flash;
+                comboB = flash;
             } else {
-                comboFont.setColor(1f, 1f - (comboIntensity * 0.16f), 1f - comboIntensity, 1f);
+                comboG = 1f - (comboIntensity * 0.16f);
+                comboB = 1f - comboIntensity;
             }
 
-            String comboText = "COMBO x" + combo;
-            comboLayout.setText(comboFont, comboText);
-
-            comboFont.draw(batch, comboText, Gdx.graphics.getWidth() - comboLayout.width - UI_MARGIN + shakeX, Gdx.graphics.getHeight() - UI_MARGIN - 80);
-
-            comboFont.setColor(1, 1, 1, 1);
+            comboText.setInt(combo);
+            comboText.draw(batch, Gdx.graphics.getWidth() - comboText.getWidth() - UI_MARGIN + shakeX,
+                Gdx.graphics.getHeight() - UI_MARGIN - 80, 1f, comboG, comboB, 1f);
         }
 
-        batch.end();
-
         if (!ready && !go && !gameOver) {
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-            shapeRenderer.setColor(0.2f, 0.2f, 0.2f, 0.7f);
-            shapeRenderer.rect(pauseButton.x, pauseButton.y, pauseButton.width, pauseButton.height);
+            batch.setColor(0.2f, 0.2f, 0.2f, 0.7f);
+            batch.draw(pixel, pauseButton.x, pauseButton.y, pauseButton.width, pauseButton.height);
 
-            shapeRenderer.setColor(1, 1, 1, 0.9f);
+            batch.setColor(1, 1, 1, 0.9f);
             float barWidth = pauseButton.width * 0.25f;
             float barHeight = pauseButton.height * 0.6f;
             float barY = pauseButton.y + (pauseButton.height - barHeight) / 2;
 
-            shapeRenderer.rect(pauseButton.x + pauseButton.width * 0.25f, barY, barWidth, barHeight);
-            shapeRenderer.rect(pauseButton.x + pauseButton.width * 0.65f, barY, barWidth, barHeight);
-            shapeRenderer.end();
+            batch.draw(pixel, pauseButton.x + pauseButton.width * 0.25f, barY, barWidth, barHeight);
+            batch.draw(pixel, pauseButton.x + pauseButton.width * 0.65f, barY, barWidth, barHeight);
         }
 
         // Draw lives (hearts) - only if lives are finite (not ZEN mode)
         if (gameMode != GameMode.ZEN) {
-            float heartStartX = Gdx.graphics.getWidth() / 2 - (MAX_LIVES * HEART_SPACING) / 2;
+            float heartStartX = Gdx.graphics.getWidth() / 2 - (GameSimulation.MAX_LIVES * HEART_SPACING) / 2;
             float heartY = Gdx.graphics.getHeight() - UI_MARGIN - HEART_SIZE - 10;
 
             // In hardcore we only show 1 life, in Classic/TimeAttack we show 3
-            int displayLives = (gameMode == GameMode.HARDCORE) ? 1 : MAX_LIVES;
+            int displayLives = (gameMode == GameMode.HARDCORE) ? 1 : GameSimulation.MAX_LIVES;
 
             for (int i = 0; i < displayLives; i++) {
-                boolean filled = (i < lives);
+                boolean filled = (i < simulation.getLives());
                 drawHeart(heartStartX + i * HEART_SPACING + shakeX, heartY, HEART_SIZE, filled);
             }
         }
 
-        if (combo >= 2 && !gameOver && shapeRenderer != null) {
+        if (combo >= 2 && !gameOver) {
             float barX = Gdx.graphics.getWidth() - COMBO_BAR_WIDTH - UI_MARGIN + shakeX;
             float barY = Gdx.graphics.getHeight() - COMBO_BAR_Y_OFFSET - 80;
-            float fillWidth = (comboTimer / COMBO_TIMEOUT) * COMBO_BAR_WIDTH;
-
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+            float timerRatio = simulation.getComboTimer() / simulation.getComboTimeout();
+            float fillWidth = timerRatio * COMBO_BAR_WIDTH;
 
-            shapeRenderer.setColor(COMBO_BAR_BG_COLOR, COMBO_BAR_BG_COLOR, COMBO_BAR_BG_COLOR, 1f);
-            shapeRenderer.rect(barX, barY, COMBO_BAR_WIDTH, COMBO_BAR_HEIGHT);
+            batch.setColor(COMBO_BAR_BG_COLOR, COMBO_BAR_BG_COLOR, COMBO_BAR_BG_COLOR, 1f);
+            batch.draw(pixel, barX, barY, COMBO_BAR_WIDTH, COMBO_BAR_HEIGHT);
 
-            float timerRatio = comboTimer / COMBO_TIMEOUT;
             float r = COMBO_BAR_EMPTY_R + (COMBO_BAR_FULL_R - COMBO_BAR_EMPTY_R) * timerRatio;
             float g = COMBO_BAR_EMPTY_G + (COMBO_BAR_FULL_G - COMBO_BAR_EMPTY_G) * timerRatio;
-            shapeRenderer.setColor(r, g, 0f, 1f);
-            shapeRenderer.rect(barX, barY, fillWidth, COMBO_BAR_HEIGHT);
-
-            shapeRenderer.end();
+            batch.setColor(r, g, 0f, 1f);
+            batch.draw(pixel, barX, barY, fillWidth, COMBO_BAR_HEIGHT);
         }
-
-        batch.begin();
+        batch.setColor(1, 1, 1, 1);
 
         if (ready) {
-            font.draw(batch, "READY?", Gdx.graphics.getWidth() / 2 - readyLayout.width / 2 + shakeX, Gdx.graphics.getHeight() / 2);
+            font.draw(batch, readyLayout, Gdx.graphics.getWidth() / 2 - readyLayout.width / 2 + shakeX, Gdx.graphics.getHeight() / 2);
         } else if (go) {
-            font.draw(batch, "GO!", Gdx.graphics.getWidth() / 2 - goLayout.width / 2 + shakeX, Gdx.graphics.getHeight() / 2);
+            font.draw(batch, goLayout, Gdx.graphics.getWidth() / 2 - goLayout.width / 2 + shakeX, Gdx.graphics.getHeight() / 2);
         } else if (gameOver) {
-            font.draw(batch, "GAME OVER", Gdx.graphics.getWidth() / 2 - gameOverLayout.width / 2 + shakeX, Gdx.graphics.getHeight() / 2 + 40);
-            font.draw(batch, "Score: " + score, Gdx.graphics.getWidth() / 2 - 70 + shakeX, Gdx.graphics.getHeight() / 2);
-            font.draw(batch, "Tap to restart", Gdx.graphics.getWidth() / 2 - restartLayout.width / 2 + shakeX, Gdx.graphics.getHeight() / 2 - 50);
-            font.setColor(0.7f, 0.7f, 0.7f, 1f);
-            font.draw(batch, "Hold for menu", Gdx.graphics.getWidth() / 2 - 90 + shakeX, Gdx.graphics.getHeight() / 2 - 90);
-            font.setColor(1, 1, 1, 1);
+            font.draw(batch, gameOverLayout, Gdx.graphics.getWidth() / 2 - gameOverLayout.width / 2 + shakeX, Gdx.graphics.getHeight() / 2 + 40);
+            scoreText.draw(batch, Gdx.graphics.getWidth() / 2 - 70 + shakeX, Gdx.graphics.getHeight() / 2, 1, 1, 1, 1);
+            font.draw(batch, restartLayout, Gdx.graphics.getWidth() / 2 - restartLayout.width / 2 + shakeX, Gdx.graphics.getHeight() / 2 - 50);
+            font.draw(batch, holdLayout, Gdx.graphics.getWidth() / 2 - 90 + shakeX, Gdx.graphics.getHeight() / 2 - 90);
         }
 
         // Display achievement notification
         if (currentDisplayAchievement != null && achievementDisplayTimer > 0) {
             float alpha = achievementDisplayTimer < 0.5f ? achievementDisplayTimer * 2 : 1f;
+            Rectangle box = layoutAchievementBox();
 
-            GlyphLayout achievementTitleLayout = new GlyphLayout(font, "ACHIEVEMENT UNLOCKED!");
-            GlyphLayout achievementNameLayout = new GlyphLayout(font, currentDisplayAchievement.getName());
-
-            float padding = 40f;
-            float minBoxWidth = 300f;
-            float maxBoxWidth = Gdx.graphics.getWidth() - 40f;
-
-            float titleWidth = achievementTitleLayout.width + padding;
-            float nameWidth = achievementNameLayout.width + padding;
-            float boxWidth = Math.max(minBoxWidth, Math.max(titleWidth, nameWidth));
-            boxWidth = Math.min(boxWidth, maxBoxWidth);
-
-            float boxHeight = 80;
-            float boxX = Gdx.graphics.getWidth() / 2f - boxWidth / 2f;
-            float boxY = Gdx.graphics.getHeight() - 150;
-
-            batch.end();
+            batch.setColor(1f, 0.84f, 0f, 0.9f * alpha);
+            batch.draw(pixel, box.x, box.y, box.width, box.height);
 
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-            shapeRenderer.setColor(1f, 0.84f, 0f, 0.9f * alpha);
-            shapeRenderer.rect(boxX, boxY, boxWidth, boxHeight);
-            shapeRenderer.end();
+            // Border as four edges, centred on the box outline
+            float half = ACHIEVEMENT_BORDER / 2f;
+            batch.setColor(1f, 1f, 1f, alpha);
+            batch.draw(pixel, box.x - half, box.y - half, box.width + ACHIEVEMENT_BORDER, ACHIEVEMENT_BORDER);
+            batch.draw(pixel, box.x - half, box.y + box.height - half, box.width + ACHIEVEMENT_BORDER, ACHIEVEMENT_BORDER);
+            batch.draw(pixel, box.x - half, box.y + half, ACHIEVEMENT_BORDER, box.height - ACHIEVEMENT_BORDER);
+            batch.draw(pixel, box.x + box.width - half, box.y + half, ACHIEVEMENT_BORDER, box.height - ACHIEVEMENT_BORDER);
+            batch.setColor(1, 1, 1, 1);
 
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-            shapeRenderer.setColor(1f, 1f, 1f, alpha);
-            Gdx.gl.glLineWidth(3);
-            shapeRenderer.rect(boxX, boxY, boxWidth, boxHeight);
-            Gdx.gl.glLineWidth(1);
-            shapeRenderer.end();
+            achievementTitleText.draw(batch,
+                box.x + (box.width - achievementTitleText.getWidth()) / 2f,
+                box.y + box.height - 15, 0, 0, 0, alpha);
 
-            batch.begin();
-
-            font.setColor(0, 0, 0, alpha);
-            font.draw(batch, "ACHIEVEMENT UNLOCKED!",
-                boxX + (boxWidth - achievementTitleLayout.width) / 2f,
-                boxY + boxHeight - 15);
-
-            font.draw(batch, currentDisplayAchievement.getName(),
-                boxX + (boxWidth - achievementNameLayout.width) / 2f,
-                boxY + boxHeight - 50);
+            achievementNameText.draw(batch,
+                box.x + (box.width - achievementNameText.getWidth()) / 2f,
+                box.y + box.height - 50, 0, 0, 0, alpha);
+        }
 
-            font.setColor(1, 1, 1, 1);
+        if (Gdx.app.getLogLevel() >= Application.LOG_DEBUG) {
+            renderCallsText.setInt(renderCalls);
+            renderCallsText.draw(batch, UI_MARGIN, UI_MARGIN + renderCallsText.getHeight(), 1, 1, 1, 1);
         }
 
         batch.end();
+        renderCalls = batch.totalRenderCalls;
+        batch.totalRenderCalls = 0;
 
         // Input handling
         if (gameOver) {
@@ -734,249 +541,156 @@ public class FirstScreen implements Screen {
                 holdTimer += delta;
                 if (holdTimer >= HOLD_TIME_FOR_MENU) {
                     holdTimer = 0;
-                    game.setHighScore(score);
+                    game.setHighScore(simulation.getScore());
                     game.setScreen(new MainMenuScreen(game));
                     dispose();
                     return;
                 }
             } else {
                 if (holdTimer > 0 && holdTimer < HOLD_TIME_FOR_MENU) {
-                    game.setHighScore(score);
+                    game.setHighScore(simulation.getScore());
                     resetGame();
                 }
                 holdTimer = 0;
             }
         } else if (Gdx.input.justTouched()) {
             if (!ready && !go && !pauseButton.contains(Gdx.input.getX(), Gdx.graphics.getHeight() - Gdx.input.getY())) {
-                rocketVelocity = 500f;
+                simulation.flap();
+                replay.flap(simulation.getTick());
 
-                ParticleEffectPool.PooledEffect effect = particleEffects.obtain();
-                effect.setPosition(rocketRect.x + rocketRect.width / 2, rocketRect.y + rocketRect.height / 2);
-                effect.start();
-                particleEffectPool.free(effect);
+                rocketTrail.spawn(rocketRect.x + rocketRect.width / 2, rocketRect.y + rocketRect.height / 2);
             }
         }
     }
 
-    private void updateGame(float delta) {
-        rocketVelocity += gravity;
-        rocketY += rocketVelocity * delta;
-        rocketRect.y = rocketY;
-
-        if (rocketRect.y < 0) {
-            rocketRect.y = 0;
-            rocketY = 0;
-            rocketVelocity = 0;
-        } else if (rocketRect.y > Gdx.graphics.getHeight() - rocketRect.height) {
-            rocketRect.y = Gdx.graphics.getHeight() - rocketRect.height;
-            rocketY = Gdx.graphics.getHeight() - rocketRect.height;
-            rocketVelocity = 0;
-        }
-
-        // Time Attack Logic
-        if (gameMode == GameMode.TIME_ATTACK) {
-            timeAttackTimer -= delta;
-            if (timeAttackTimer <= 0) {
-                timeAttackTimer = 0;
-                gameOver = true;
-                shakeTimer = 0.5f;
-                shakeIntensity = 5f;
-            }
-        }
+    // Sized to fit the notification's title and name
+    private Rectangle layoutAchievementBox() {
+        float padding = 40f;
+        float minBoxWidth = 300f;
+        float maxBoxWidth = Gdx.graphics.getWidth() - 40f;
 
-        updateComboTimer(delta);
-        updateDifficulty();
-        updatePowerUps(delta);
-        updateAchievementDisplay(delta);
+        float titleWidth = achievementTitleText.getWidth() + padding;
+        float nameWidth = achievementNameText.getWidth() + padding;
+        float boxWidth = Math.max(minBoxWidth, Math.max(titleWidth, nameWidth));
+        boxWidth = Math.min(boxWidth, maxBoxWidth);
 
-        spikeTimer += delta;
-
-        if (spikeTimer >= nextSpikeDelay) {
-            spawnSpikes();
-            spikeTimer = 0;
-            nextSpikeDelay = getRandomSpikeDelay();
-        }
-
-        float currentSpeed = getCurrentSpikeSpeed();
+        float boxHeight = 80;
+        return achievementBox.set(Gdx.graphics.getWidth() / 2f - boxWidth / 2f, Gdx.graphics.getHeight() - 150, boxWidth, boxHeight);
+    }
 
-        for (int i = 0; i < spikeData.size; i++) {
-            SpikeData spike = spikeData.get(i);
-            spike.rect.x -= currentSpeed * delta;
-            spike.updateTriangle();
+    private void updateSimulation(float delta) {
+        accumulator += Math.min(delta, MAX_FRAME_TIME);
 
-            if (!spike.scored && !spike.isTop) {
-                float rocketCenterX = rocketRect.x + rocketRect.width / 2;
-                float spikeCenterX = spike.rect.x + spike.rect.width / 2;
+        int steps = 0;
+        while (accumulator >= simulation.getTickDelta() && !simulation.isGameOver()) {
+            simulation.step();
+            accumulator -= simulation.getTickDelta();
 
-                if (rocketCenterX > spikeCenterX) {
-                    spike.scored = true;
-                    incrementCombo();
-                    int pointsEarned = calculatePoints();
-                    score += pointsEarned;
-                }
-            }
-
-            if (spike.rect.x + spike.rect.width < 0) {
-                spikeData.removeIndex(i);
-                i--;
+            // Bound simulation cost per frame; drop the backlog instead of spiralling
+            if (++steps >= MAX_STEPS_PER_FRAME) {
+                accumulator = Math.min(accumulator, simulation.getTickDelta());
+                break;
             }
         }
 
-        checkCollisions();
-    }
-
-    private void updateComboTimer(float delta) {
-        if (combo > 0) {
-            comboTimer -= delta;
-            comboExpiring = comboTimer <= COMBO_EXPIRING_THRESHOLD && comboTimer > 0;
-
-            if (comboTimer <= 0) {
-                combo = 0;
-                comboTimer = 0;
-                comboExpiring = false;
-            }
+        if (simulation.isGameOver()) {
+            accumulator = 0;
+            // After the whole tick, since scoring can still change on the tick the run ended
+            saveReplay();
         }
     }
 
-    private void incrementCombo() {
-        if (combo < MAX_COMBO_VALUE) {
-            combo++;
-        }
-        if (combo > maxCombo) {
-            maxCombo = combo;
-            game.updateMaxCombo(maxCombo);
-
-            checkAchievement(Achievement.COMBO_MASTER_10);
-            checkAchievement(Achievement.COMBO_MASTER_25);
-        }
-        comboTimer = COMBO_TIMEOUT;
-        comboExpiring = false;
+    private void shake(float duration, float intensity) {
+        shakeTimer = duration;
+        shakeIntensity = intensity;
     }
 
-    private int calculatePoints() {
-        int pointsEarned = 1 * scoreMultiplier;
-        scorePopups.add(new ScorePopup("+" + pointsEarned, rocketRect.x, rocketRect.y + rocketRect.height, false));
-
-        if (combo >= COMBO_THRESHOLD) {
-            int bonusPoints = (combo - COMBO_THRESHOLD + 1) * COMBO_BONUS_MULTIPLIER * scoreMultiplier;
-            pointsEarned += bonusPoints;
-            scorePopups.add(new ScorePopup("+" + bonusPoints + " COMBO!", rocketRect.x, rocketRect.y + rocketRect.height + 30, true));
-        }
-
-        // Check score achievements
-        checkAchievement(Achievement.SURVIVOR_50);
-        checkAchievement(Achievement.SURVIVOR_100);
-        checkAchievement(Achievement.SURVIVOR_200);
-
-        // Check no damage achievement
-        if (!damageThisRun) {
-            checkAchievement(Achievement.NO_DAMAGE);
-        }
-
-        return pointsEarned;
+    private void addPopup(String text, float yOffset, boolean isCombo) {
+        Rectangle rocketRect = simulation.getRocketRect();
+        scorePopups.add(new ScorePopup(text, rocketRect.x, rocketRect.y + rocketRect.height + yOffset, isCombo));
     }
 
-    private void spawnSpikes() {
-        float height = Gdx.graphics.getHeight();
-        float gapStart = MathUtils.random(100, height - spikeGap - 100);
-
-        int spikeIndex = MathUtils.random(0, 4);
-
-        Rectangle topSpike = new Rectangle(Gdx.graphics.getWidth(), gapStart + spikeGap, spikeWidth, height - (gapStart + spikeGap));
-        spikeData.add(new SpikeData(topSpike, spikeIndex, true));
+    @Override
+    public void onSpikePassed(int points, int bonusPoints) {
+        addPopup("+" + points, 0, false);
+        if (bonusPoints > 0) {
+            addPopup("+" + bonusPoints + " COMBO!", 30, true);
+        }
 
-        Rectangle bottomSpike = new Rectangle(Gdx.graphics.getWidth(), 0, spikeWidth, gapStart);
-        spikeData.add(new SpikeData(bottomSpike, spikeIndex, false));
+        achievements.scoreChanged(simulation);
     }
 
-    private boolean pointInTriangle(float px, float py, Vector2 p1, Vector2 p2, Vector2 p3) {
-        float d1 = sign(px, py, p1.x, p1.y, p2.x, p2.y);
-        float d2 = sign(px, py, p2.x, p2.y, p3.x, p3.y);
-        float d3 = sign(px, py, p3.x, p3.y, p1.x, p1.y);
-
-        boolean hasNeg = (d1 < 0) || (d2 < 0) || (d3 < 0);
-        boolean hasPos = (d1 > 0) || (d2 > 0) || (d3 > 0);
+    @Override
+    public void onMaxComboIncreased(int maxCombo) {
+        game.updateMaxCombo(maxCombo);
 
-        return !(hasNeg && hasPos);
+        achievements.maxComboChanged(simulation);
     }
 
-    private float sign(float px, float py, float x1, float y1, float x2, float y2) {
-        return (px - x2) * (y1 - y2) - (x1 - x2) * (py - y2);
+    @Override
+    public void onDifficultyChanged(float difficultyMultiplier) {
+        achievements.difficultyChanged(simulation);
     }
 
-    private boolean rectangleIntersectsTriangle(Rectangle rect, Vector2 p1, Vector2 p2, Vector2 p3) {
-        if (pointInTriangle(rect.x, rect.y, p1, p2, p3)) return true;
-        if (pointInTriangle(rect.x + rect.width, rect.y, p1, p2, p3)) return true;
-        if (pointInTriangle(rect.x, rect.y + rect.height, p1, p2, p3)) return true;
-        if (pointInTriangle(rect.x + rect.width, rect.y + rect.height, p1, p2, p3)) return true;
-
-        if (pointInTriangle(rect.x + rect.width / 2, rect.y + rect.height / 2, p1, p2, p3)) return true;
+    @Override
+    public void onPowerUpCollected(PowerUpType type) {
+        game.incrementPowerupsCollected();
 
-        if (pointInTriangle(rect.x + rect.width / 2, rect.y, p1, p2, p3)) return true;
-        if (pointInTriangle(rect.x + rect.width / 2, rect.y + rect.height, p1, p2, p3)) return true;
-        if (pointInTriangle(rect.x, rect.y + rect.height / 2, p1, p2, p3)) return true;
-        if (pointInTriangle(rect.x + rect.width, rect.y + rect.height / 2, p1, p2, p3)) return true;
+        addPopup("+" + type.getName() + "!", 40, true);
 
-        return false;
+        achievements.powerUpCollected(simulation);
     }
 
-    private void checkCollisions() {
-        if (invulnerabilityTimer > 0) {
-            return;
-        }
-
-        for (SpikeData spike : spikeData) {
-            if (rectangleIntersectsTriangle(rocketRect, spike.p1, spike.p2, spike.p3)) {
-                handleCollision();
-                break;
-            }
-        }
-    }
-
-    private void handleCollision() {
-        // ZEN MODE: No death, just screen shake and combo reset
+    @Override
+    public void onHit() {
+        // ZEN MODE: No death, just screen shake
         if (gameMode == GameMode.ZEN) {
-            shakeTimer = 0.3f;
-            shakeIntensity = 5f;
-            combo = 0;
-            comboTimer = 0;
-            comboExpiring = false;
-            scorePopups.add(new ScorePopup("Ouch!", rocketRect.x, rocketRect.y + rocketRect.height, false));
-            // No lives decrement, no game over
+            shake(0.3f, 5f);
+            addPopup("Ouch!", 0, false);
             return;
         }
 
-        lives--;
-        damageThisRun = true;
-
-        if (lives <= 0) {
-            gameOver = true;
-            shakeTimer = 0.5f;
-            shakeIntensity = 10f;
+        if (simulation.isGameOver()) {
+            shake(0.5f, 10f);
         } else {
-            invulnerabilityTimer = INVULNERABILITY_TIME;
-            shakeTimer = 0.3f;
-            shakeIntensity = 5f;
+            shake(0.3f, 5f);
+            addPopup("-1 life", 0, false);
+        }
 
-            combo = 0;
-            comboTimer = 0;
-            comboExpiring = false;
+        achievements.rocketHit(simulation);
 
-            scorePopups.add(new ScorePopup("-1 life", rocketRect.x, rocketRect.y + rocketRect.height, false));
+        if (simulation.isGameOver()) {
+            saveRun();
         }
+    }
 
-        // Check hardcore survivor achievement
-        if (gameMode == GameMode.HARDCORE && score >= 50) {
-            checkAchievement(Achievement.HARDCORE_SURVIVOR);
-        }
+    @Override
+    public void onTimeUp() {
+        shake(0.5f, 5f);
+        saveRun();
+    }
+
+    /** Records the finished run and saves stats in the background while the game over screen is up. */
+    private void saveRun() {
+        game.setHighScore(simulation.getScore());
+        game.checkpointStats();
+    }
+
+    /** Writes the run so far as the last replay, to be attached to a bug report or a submitted score. */
+    private void saveReplay() {
+        replay.finish(simulation.getTick(), simulation.getScore());
+        game.saveInBackground(Gdx.files.local(REPLAY_FILE), replay.write());
     }
 
     @Override
     public void resize(int width, int height) {
         if(width <= 0 || height <= 0) return;
 
-        spikeWidth = width * 0.08f;
-        spikeGap = height * 0.25f;
+        // libGDX also resizes on resume and can repeat a size; only a real change is an input of the run
+        if (!replay.isFinished() && (width != simulation.getWorldWidth() || height != simulation.getWorldHeight())) {
+            replay.resize(simulation.getTick(), width, height);
+        }
+        simulation.resize(width, height);
         // Update pause button position
         pauseButton.setPosition(
             width - PAUSE_BUTTON_SIZE - PAUSE_BUTTON_MARGIN,
@@ -996,105 +710,6 @@ public class FirstScreen implements Screen {
     public void hide() {
     }
 
-    private void updatePowerUps(float delta) {
-        powerUpSpawnTimer += delta;
-        if (powerUpSpawnTimer >= POWERUP_SPAWN_INTERVAL) {
-            spawnPowerUp();
-            powerUpSpawnTimer = 0;
-        }
-
-        for (int i = 0; i < activePowerUps.size; i++) {
-            PowerUp powerUp = activePowerUps.get(i);
-            powerUp.animTimer -= delta;
-
-            if (powerUp.animTimer <= 0) {
-                removePowerUpEffect(powerUp.type);
-                activePowerUps.removeIndex(i);
-                i--;
-            }
-        }
-
-        float currentSpeed = getCurrentSpikeSpeed();
-
-        for (int i = 0; i < powerUpsOnScreen.size; i++) {
-            PowerUp powerUp = powerUpsOnScreen.get(i);
-            powerUp.rect.x -= currentSpeed * delta;
-            powerUp.animTimer += delta;
-
-            if (rocketRect.overlaps(powerUp.rect)) {
-                collectPowerUp(powerUp.type);
-                powerUpsOnScreen.removeIndex(i);
-                i--;
-                continue;
-            }
-
-            if (powerUp.rect.x + powerUp.rect.width < 0) {
-                powerUpsOnScreen.removeIndex(i);
-                i--;
-            }
-        }
-    }
-
-    private void spawnPowerUp() {
-        PowerUpType type = PowerUpType.values()[MathUtils.random(PowerUpType.values().length - 1)];
-        float height = Gdx.graphics.getHeight();
-        float y = MathUtils.random(100, height - 100);
-
-        powerUpsOnScreen.add(new PowerUp(Gdx.graphics.getWidth(), y, type));
-    }
-
-    private void collectPowerUp(PowerUpType type) {
-        game.incrementPowerupsCollected();
-
-        for (int i = 0; i < activePowerUps.size; i++) {
-            if (activePowerUps.get(i).type == type) {
-                activePowerUps.removeIndex(i);
-                break;
-            }
-        }
-
-        PowerUp powerUp = new PowerUp(0, 0, type);
-        powerUp.animTimer = type.getDuration();
-        activePowerUps.add(powerUp);
-
-        applyPowerUpEffect(type);
-
-        scorePopups.add(new ScorePopup("+" + type.getName() + "!", rocketRect.x, rocketRect.y + rocketRect.height + 40, true));
-
-        checkAchievement(Achievement.POWERUP_COLLECTOR);
-    }
-
-    private void applyPowerUpEffect(PowerUpType type) {
-        switch (type) {
-            case SHIELD:
-                invulnerabilityTimer = type.getDuration();
-                break;
-            case SLOW_TIME:
-                slowTimeMultiplier = 0.5f;
-                break;
-            case DOUBLE_POINTS:
-                scoreMultiplier = 2;
-                break;
-            case MAGNET:
-                break;
-        }
-    }
-
-    private void removePowerUpEffect(PowerUpType type) {
-        switch (type) {
-            case SLOW_TIME:
-                slowTimeMultiplier = 1.0f;
-                break;
-            case DOUBLE_POINTS:
-                scoreMultiplier = 1;
-                break;
-            case SHIELD:
-                break;
-            case MAGNET:
-                break;
-        }
-    }
-
     private void updateAchievementDisplay(float delta) {
         if (achievementDisplayTimer > 0) {
             achievementDisplayTimer -= delta;
@@ -1104,52 +719,17 @@ public class FirstScreen implements Screen {
         }
     }
 
-    private void checkAchievement(Achievement achievement) {
-        if (game.isAchievementUnlocked(achievement)) {
-            return;
-        }
-
-        boolean unlock = false;
-
-        switch (achievement) {
-            case FIRST_FLIGHT:
-                unlock = game.getGamesPlayed() >= 1;
-                break;
-            case COMBO_MASTER_10:
-                unlock = maxCombo >= 10;
-                break;
-            case COMBO_MASTER_25:
-                unlock = maxCombo >= 25;
-                break;
-            case SURVIVOR_50:
-                unlock = score >= 50;
-                break;
-            case SURVIVOR_100:
-                unlock = score >= 100;
-                break;
-            case SURVIVOR_200:
-                unlock = score >= 200;
-                break;
-            case NO_DAMAGE:
-                unlock = !damageThisRun && score >= 30;
-                break;
-            case SPEED_DEMON:
-                unlock = difficultyMultiplier >= 2.0f;
-                break;
-            case POWERUP_COLLECTOR:
-                unlock = game.getTotalPowerups() >= 10;
-                break;
-            case HARDCORE_SURVIVOR:
-                unlock = lives == MAX_LIVES - 1 && score >= 50;
-                break;
-        }
+    @Override
+    public void onAchievementUnlocked(Achievement achievement) {
+        justUnlocked.add(achievement);
+        currentDisplayAchievement = achievement;
+        achievementNameText.setText(achievement.getName());
+        achievementDisplayTimer = ACHIEVEMENT_DISPLAY_TIME;
+    }
 
-        if (unlock) {
-            game.unlockAchievement(achievement);
-            justUnlocked.add(achievement);
-            currentDisplayAchievement = achievement;
-            achievementDisplayTimer = ACHIEVEMENT_DISPLAY_TIME;
-        }
+    /** SpriteBatch draw calls the last complete frame issued. */
+    public int getRenderCalls() {
+        return renderCalls;
     }
 
     // Getter for PauseMenuScreen restart functionality
@@ -1159,41 +739,38 @@ public class FirstScreen implements Screen {
 
     @Override
     public void dispose() {
+        // A run left unfinished, like any Zen run, is kept as far as it got; one that never started keeps the last
+        if (replay != null && !replay.isFinished() && simulation.getTick() > 0) {
+            saveReplay();
+        }
+        replay = null;
         if (batch != null) {
             batch.dispose();
             batch = null;
         }
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-            shapeRenderer = null;
-        }
         if (background != null) {
-            background.dispose();
+            game.getAssets().release(Assets.BACKGROUND);
             background = null;
         }
         if (rocket != null) {
-            rocket.dispose();
+            game.getAssets().releaseRegion(Assets.ROCKET);
             rocket = null;
         }
         if (spikes != null) {
             for (int i = 0; i < spikes.length; i++) {
                 if (spikes[i] != null) {
-                    spikes[i].dispose();
+                    game.getAssets().releaseRegion(Assets.spike(i));
                     spikes[i] = null;
                 }
             }
             spikes = null;
         }
-        if (font != null) {
-            font.dispose();
-            font = null;
-        }
-        if (comboFont != null) {
-            comboFont.dispose();
-            comboFont = null;
+        if (rocketTrail != null) {
+            rocketTrail.clear();
+            rocketTrail = null;
         }
         if (particleEffect != null) {
-            particleEffect.dispose();
+            game.getAssets().release(Assets.ROCKET_TRAIL);
             particleEffect = null;
         }
     }
@@ -0,0 +1,104 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Game-wide font registry. Each font file and size is created once, on first use, and the resulting
+ * {@link BitmapFont} is shared by every screen that asks for it; screens never dispose fonts, the registry does at
+ * application exit. Size is the only generator parameter the game varies, so it is the whole key besides the file.
+ * <p>
+ * Sizes baked at build time are read from their .fnt file with glyphs in the shared atlas; any other size is
+ * rasterized with FreeType.
+ */
+final class Fonts implements Disposable {
+    static final String UI_FONT = "PressStart2P-Regular.ttf";
+
+    private final Assets assets;
+    private final ObjectMap<String, FreeTypeFontGenerator> generators = new ObjectMap<String, FreeTypeFontGenerator>();
+    private final ObjectMap<String, IntMap<BitmapFont>> fonts = new ObjectMap<String, IntMap<BitmapFont>>();
+
+    Fonts(Assets assets) {
+        this.assets = assets;
+    }
+
+    /** Name of the .fnt file and atlas region the asset baker writes for a font file and size. */
+    static String bakedName(String path, int size) {
+        int start = path.lastIndexOf('/') + 1;
+        int end = path.lastIndexOf('.');
+        return path.substring(start, end > start ? end : path.length()) + "-" + size;
+    }
+
+    /** The game's UI font at {@code size} pixels. */
+    BitmapFont get(int size) {
+        return get(UI_FONT, size);
+    }
+
+    /**
+     * The font in {@code path} at {@code size} pixels, created the first time it is asked for. Fonts are shared, so
+     * the color is reset to white each time one is handed out, like a freshly generated font.
+     */
+    BitmapFont get(String path, int size) {
+        IntMap<BitmapFont> sizes = fonts.get(path);
+        if (sizes == null) {
+            sizes = new IntMap<BitmapFont>();
+            fonts.put(path, sizes);
+        }
+
+        BitmapFont font = sizes.get(size);
+        if (font == null) {
+            font = loadBaked(path, size);
+            if (font == null) {
+                FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+                parameter.size = size;
+                font = generator(path).generateFont(parameter);
+            }
+            sizes.put(size, font);
+        }
+        font.setColor(Color.WHITE);
+        return font;
+    }
+
+    private BitmapFont loadBaked(String path, int size) {
+        TextureAtlas atlas = assets.getAtlas();
+        if (atlas == null) return null;
+
+        String name = bakedName(path, size);
+        TextureAtlas.AtlasRegion page = atlas.findRegion(name);
+        FileHandle fontFile = Gdx.files.internal(Assets.BAKED_DIRECTORY + name + ".fnt");
+        if (page == null || !fontFile.exists()) return null;
+        // The font only borrows the atlas page, so disposing it leaves the atlas intact
+        return new BitmapFont(fontFile, page);
+    }
+
+    // Generators keep the parsed font file, so later sizes skip reading it again
+    private FreeTypeFontGenerator generator(String path) {
+        FreeTypeFontGenerator generator = generators.get(path);
+        if (generator == null) {
+            generator = new FreeTypeFontGenerator(Gdx.files.internal(path));
+            generators.put(path, generator);
+        }
+        return generator;
+    }
+
+    @Override
+    public void dispose() {
+        for (IntMap<BitmapFont> sizes : fonts.values()) {
+            for (BitmapFont font : sizes.values()) {
+                font.dispose();
+            }
+        }
+        fonts.clear();
+        for (FreeTypeFontGenerator generator : generators.values()) {
+            generator.dispose();
+        }
+        generators.clear();
+    }
+}
@@ -0,0 +1,67 @@
+package io.finett.rocketescape;
+
+/**
+ * The tunable numbers that set how hard a run gets: how fast difficulty rises with score, how far apart spikes
+ * spawn, how wide their gap is and how often power-ups appear. The game plays {@link #DEFAULT}; the batch simulator
+ * runs others to compare them.
+ */
+public final class GameBalance {
+    public static final GameBalance DEFAULT = new GameBalance(0.01f, 2.0f, 4.5f, 0.25f, 15f);
+
+    private final float difficultyIncreaseRate;
+    private final float minSpikeDelay;
+    private final float maxSpikeDelay;
+    private final float spikeGap;
+    private final float powerUpSpawnInterval;
+
+    /**
+     * @param difficultyIncreaseRate difficulty added per point scored
+     * @param minSpikeDelay shortest time between spike pairs at difficulty 1, in seconds
+     * @param maxSpikeDelay longest time between spike pairs at difficulty 1, in seconds
+     * @param spikeGap height of the gap between a pair's spikes, as a fraction of the world height
+     * @param powerUpSpawnInterval time between power-ups, in seconds
+     */
+    public GameBalance(float difficultyIncreaseRate, float minSpikeDelay, float maxSpikeDelay, float spikeGap,
+        float powerUpSpawnInterval) {
+        if (minSpikeDelay <= 0 || maxSpikeDelay < minSpikeDelay) {
+            throw new IllegalArgumentException("Invalid spike delay range: " + minSpikeDelay + " to " + maxSpikeDelay);
+        }
+        if (spikeGap <= 0 || spikeGap >= 1) {
+            throw new IllegalArgumentException("spikeGap must be between 0 and 1: " + spikeGap);
+        }
+        if (powerUpSpawnInterval <= 0) {
+            throw new IllegalArgumentException("powerUpSpawnInterval must be positive: " + powerUpSpawnInterval);
+        }
+        this.difficultyIncreaseRate = difficultyIncreaseRate;
+        this.minSpikeDelay = minSpikeDelay;
+        this.maxSpikeDelay = maxSpikeDelay;
+        this.spikeGap = spikeGap;
+        this.powerUpSpawnInterval = powerUpSpawnInterval;
+    }
+
+    public float getDifficultyIncreaseRate() {
+        return difficultyIncreaseRate;
+    }
+
+    public float getMinSpikeDelay() {
+        return minSpikeDelay;
+    }
+
+    public float getMaxSpikeDelay() {
+        return maxSpikeDelay;
+    }
+
+    public float getSpikeGap() {
+        return spikeGap;
+    }
+
+    public float getPowerUpSpawnInterval() {
+        return powerUpSpawnInterval;
+    }
+
+    @Override
+    public String toString() {
+        return "difficulty rate " + difficultyIncreaseRate + ", spike delay " + minSpikeDelay + "-" + maxSpikeDelay
+            + " s, gap " + spikeGap + ", power-up every " + powerUpSpawnInterval + " s";
+    }
+}
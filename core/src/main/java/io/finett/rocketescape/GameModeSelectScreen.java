@@ -7,7 +7,6 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 
@@ -37,26 +36,11 @@ public class GameModeSelectScreen implements Screen {
     public void show() {
         batch = new SpriteBatch();
         shapeRenderer = new ShapeRenderer();
-        background = new Texture("space-bg.png");
+        background = game.getAssets().acquireTexture(Assets.BACKGROUND);
 
-        FreeTypeFontGenerator generator = null;
-        try {
-            generator = new FreeTypeFontGenerator(Gdx.files.internal("PressStart2P-Regular.ttf"));
-            FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-
-            parameter.size = 32;
-            titleFont = generator.generateFont(parameter);
-
-            parameter.size = 16;
-            menuFont = generator.generateFont(parameter);
-
-            parameter.size = 12;
-            smallFont = generator.generateFont(parameter);
-        } finally {
-            if (generator != null) {
-                generator.dispose();
-            }
-        }
+        titleFont = game.getFonts().get(32);
+        menuFont = game.getFonts().get(16);
+        smallFont = game.getFonts().get(12);
 
         titleLayout = new GlyphLayout();
         titleLayout.setText(titleFont, "SELECT MODE");
@@ -212,9 +196,6 @@ public class GameModeSelectScreen implements Screen {
     public void dispose() {
         if (batch != null) batch.dispose();
         if (shapeRenderer != null) shapeRenderer.dispose();
-        if (background != null) background.dispose();
-        if (titleFont != null) titleFont.dispose();
-        if (menuFont != null) menuFont.dispose();
-        if (smallFont != null) smallFont.dispose();
+        if (background != null) game.getAssets().release(Assets.BACKGROUND);
     }
 }
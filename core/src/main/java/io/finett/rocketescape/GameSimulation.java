@@ -0,0 +1,867 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Renderer-free gameplay state of a single run. Advanced in fixed ticks with {@link #step()} and never touches
+ * {@code Gdx.graphics}, {@code Gdx.input} or any GL resource, so it can be stepped without a GL context. Every
+ * random draw comes from generators seeded at {@link #reset(long)}, so the same seed and the same flaps on the same
+ * ticks replay the same run.
+ */
+public class GameSimulation {
+    /** Gameplay events the view reacts to with popups, screen shake and achievements. */
+    public interface Listener {
+        void onSpikePassed(int points, int bonusPoints);
+
+        void onMaxComboIncreased(int maxCombo);
+
+        /** The difficulty rose with the score; it never changes otherwise. */
+        void onDifficultyChanged(float difficultyMultiplier);
+
+        void onPowerUpCollected(PowerUpType type);
+
+        void onHit();
+
+        void onTimeUp();
+    }
+
+    public static final int MAX_LIVES = 3;
+    public static final float ROCKET_SIZE = 64;
+    public static final int DEFAULT_TICK_RATE = 60;
+
+    private static final float INVULNERABILITY_TIME = 2.0f;
+    // Units per second squared; the original per-frame -15 at 60 FPS
+    private static final float GRAVITY = -900f;
+    private static final float FLAP_VELOCITY = 500f;
+
+    // Difficulty progression; the rate at which it rises is part of the GameBalance
+    private static final float MAX_DIFFICULTY = 2.5f;
+    private static final float BASE_SPIKE_SPEED = 200f;
+
+    // Combo system constants
+    private static final float COMBO_TIMEOUT = 5f;
+    private static final float COMBO_EXPIRING_THRESHOLD = 1.5f;
+    private static final int COMBO_THRESHOLD = 3;
+    private static final int COMBO_BONUS_MULTIPLIER = 2;
+    private static final int MAX_COMBO_VALUE = 999;
+
+    private static final int SPIKE_TEXTURE_COUNT = 5;
+
+    private static final float POWERUP_SIZE = 40f;
+    private static final float TIME_ATTACK_LIMIT = 60f;
+    private static final PowerUpType[] POWER_UP_TYPES = PowerUpType.values();
+    // Derives the cosmetic stream's seed from the run's seed
+    private static final long COSMETIC_SEED_MASK = 0x6a09e667f3bcc909L;
+
+    private static final Listener NO_LISTENER = new Listener() {
+        @Override
+        public void onSpikePassed(int points, int bonusPoints) {}
+
+        @Override
+        public void onMaxComboIncreased(int maxCombo) {}
+
+        @Override
+        public void onDifficultyChanged(float difficultyMultiplier) {}
+
+        @Override
+        public void onPowerUpCollected(PowerUpType type) {}
+
+        @Override
+        public void onHit() {}
+
+        @Override
+        public void onTimeUp() {}
+    };
+
+    static class PowerUp implements Pool.Poolable {
+        final Rectangle rect = new Rectangle(0, 0, POWERUP_SIZE, POWERUP_SIZE);
+        float prevX;
+        PowerUpType type;
+        float animTimer;
+
+        PowerUp(float x, float y, PowerUpType type) {
+            set(x, y, type);
+        }
+
+        PowerUp set(float x, float y, PowerUpType type) {
+            rect.setPosition(x, y);
+            this.prevX = x;
+            this.type = type;
+            this.animTimer = 0;
+            return this;
+        }
+
+        @Override
+        public void reset() {
+            set(0, 0, POWER_UP_TYPES[0]);
+        }
+    }
+
+    private final GameMode gameMode;
+    private final GameBalance balance;
+    private final float tickDelta;
+    private Listener listener = NO_LISTENER;
+
+    private float worldWidth;
+    private float worldHeight;
+    private float spikeWidth;
+    private float spikeGap;
+
+    private final Rectangle rocketRect = new Rectangle(0, 0, ROCKET_SIZE, ROCKET_SIZE);
+    private final SpikeBuffer spikes = new SpikeBuffer();
+    private final Array<PowerUp> activePowerUps = new Array<PowerUp>();
+    private final Array<PowerUp> powerUpsOnScreen = new Array<PowerUp>();
+    // Spawned, collected and snapshot-restored power-ups are recycled instead of reallocated
+    private final Pool<PowerUp> powerUpPool = new Pool<PowerUp>() {
+        @Override
+        protected PowerUp newObject() {
+            return new PowerUp(0, 0, POWER_UP_TYPES[0]);
+        }
+    };
+
+    // Gameplay and cosmetic draws use separate streams, so effects can draw any number of times per frame without
+    // changing what spawns
+    private final RandomXS128 random = new RandomXS128();
+    private final RandomXS128 cosmeticRandom = new RandomXS128();
+    // Seeds for runs started without one; kept per simulation so simulations share no state
+    private final RandomXS128 seeds = new RandomXS128();
+    private long seed;
+
+    private int tick;
+    private float rocketY;
+    private float previousRocketY;
+    private float rocketVelocity;
+    // Distance the world has moved left, which the background layers scroll by
+    private float scrollDistance;
+    private float previousScrollDistance;
+    private float spikeTimer;
+    private float nextSpikeDelay;
+    private int score;
+    private boolean gameOver;
+
+    private int lives;
+    private float invulnerabilityTimer;
+    private float difficultyMultiplier;
+
+    private int combo;
+    private int maxCombo;
+    private float comboTimer;
+    private boolean comboExpiring;
+
+    private float powerUpSpawnTimer;
+    private float slowTimeMultiplier;
+    private int scoreMultiplier;
+
+    private boolean damageThisRun;
+    private float timeAttackTimer;
+
+    public GameSimulation(GameMode gameMode, float worldWidth, float worldHeight) {
+        this(gameMode, worldWidth, worldHeight, DEFAULT_TICK_RATE);
+    }
+
+    public GameSimulation(GameMode gameMode, float worldWidth, float worldHeight, int tickRate) {
+        this(gameMode, worldWidth, worldHeight, tickRate, GameBalance.DEFAULT);
+    }
+
+    public GameSimulation(GameMode gameMode, float worldWidth, float worldHeight, int tickRate, GameBalance balance) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("tickRate must be positive: " + tickRate);
+        }
+        this.gameMode = gameMode;
+        this.balance = balance;
+        this.tickDelta = 1f / tickRate;
+        resize(worldWidth, worldHeight);
+        reset();
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener != null ? listener : NO_LISTENER;
+    }
+
+    /** Sets the rocket hitbox, e.g. to match the aspect ratio of the rocket texture. */
+    public void setRocketSize(float width, float height) {
+        rocketRect.setSize(width, height);
+    }
+
+    public void resize(float width, float height) {
+        worldWidth = width;
+        worldHeight = height;
+        spikeWidth = width * 0.08f;
+        spikeGap = height * balance.getSpikeGap();
+    }
+
+    /** Starts a new run with a fresh random seed. */
+    public void reset() {
+        reset(seeds.nextLong());
+    }
+
+    /** Starts a new run whose random draws all follow from {@code seed}. */
+    public void reset(long seed) {
+        this.seed = seed;
+        random.setSeed(seed);
+        cosmeticRandom.setSeed(seed ^ COSMETIC_SEED_MASK);
+
+        tick = 0;
+        rocketY = worldHeight / 2;
+        previousRocketY = rocketY;
+        rocketVelocity = 0;
+        scrollDistance = 0;
+        previousScrollDistance = 0;
+        spikeTimer = 0;
+
+        // Game Mode specific initialization
+        lives = gameMode.getLives();
+        difficultyMultiplier = gameMode.getStartingDifficulty();
+        timeAttackTimer = TIME_ATTACK_LIMIT;
+        scoreMultiplier = (gameMode == GameMode.HARDCORE) ? 2 : 1;
+
+        nextSpikeDelay = getRandomSpikeDelay();
+        score = 0;
+        combo = 0;
+        maxCombo = 0;
+        comboTimer = 0;
+        comboExpiring = false;
+        gameOver = false;
+        invulnerabilityTimer = 0;
+        powerUpSpawnTimer = 0;
+        slowTimeMultiplier = 1.0f;
+        damageThisRun = false;
+
+        rocketRect.setPosition(worldWidth / 4, rocketY);
+
+        spikes.clear();
+        freePowerUps(activePowerUps);
+        freePowerUps(powerUpsOnScreen);
+    }
+
+    private void freePowerUps(Array<PowerUp> powerUps) {
+        powerUpPool.freeAll(powerUps);
+        powerUps.clear();
+    }
+
+    public void flap() {
+        rocketVelocity = FLAP_VELOCITY;
+    }
+
+    /** Advances the run by one fixed tick of {@link #getTickDelta()} seconds. */
+    public void step() {
+        if (gameOver) {
+            return;
+        }
+
+        float delta = tickDelta;
+        tick++;
+        storePreviousPositions();
+
+        if (invulnerabilityTimer > 0) {
+            invulnerabilityTimer -= delta;
+        }
+
+        rocketVelocity += GRAVITY * delta;
+        rocketY += rocketVelocity * delta;
+        rocketRect.y = rocketY;
+
+        if (rocketRect.y < 0) {
+            rocketRect.y = 0;
+            rocketY = 0;
+            rocketVelocity = 0;
+        } else if (rocketRect.y > worldHeight - rocketRect.height) {
+            rocketRect.y = worldHeight - rocketRect.height;
+            rocketY = worldHeight - rocketRect.height;
+            rocketVelocity = 0;
+        }
+
+        // Time Attack Logic
+        if (gameMode == GameMode.TIME_ATTACK) {
+            timeAttackTimer -= delta;
+            if (timeAttackTimer <= 0) {
+                timeAttackTimer = 0;
+                gameOver = true;
+                listener.onTimeUp();
+            }
+        }
+
+        updateComboTimer(delta);
+        updateDifficulty();
+        updatePowerUps(delta);
+
+        spikeTimer += delta;
+
+        if (spikeTimer >= nextSpikeDelay) {
+            spawnSpikes();
+            spikeTimer = 0;
+            nextSpikeDelay = getRandomSpikeDelay();
+        }
+
+        spikes.translateX(-getCurrentSpikeSpeed() * delta);
+        scrollDistance += getCurrentSpikeSpeed() * delta;
+
+        // Only bottom spikes score, so each passed pair counts once
+        float rocketCenterX = rocketRect.x + rocketRect.width / 2;
+        for (int i = spikes.begin(), end = spikes.end(); i < end; i++) {
+            if (!spikes.scored[i] && !spikes.top[i] && rocketCenterX > spikes.centerX(i)) {
+                spikes.scored[i] = true;
+                incrementCombo();
+                scoreSpike();
+            }
+        }
+
+        while (spikes.size() > 0 && spikes.right(spikes.begin()) < 0) {
+            spikes.removeFirst();
+        }
+
+        checkCollisions();
+    }
+
+    private void storePreviousPositions() {
+        previousRocketY = rocketRect.y;
+        previousScrollDistance = scrollDistance;
+        spikes.storePreviousX();
+        for (int i = 0; i < powerUpsOnScreen.size; i++) {
+            PowerUp powerUp = powerUpsOnScreen.get(i);
+            powerUp.prevX = powerUp.rect.x;
+        }
+    }
+
+    private float getRandomSpikeDelay() {
+        float adjustedMinDelay = Math.max(1.0f, balance.getMinSpikeDelay() / difficultyMultiplier);
+        float adjustedMaxDelay = Math.max(1.5f, balance.getMaxSpikeDelay() / difficultyMultiplier);
+        return randomRange(adjustedMinDelay, adjustedMaxDelay);
+    }
+
+    private void updateDifficulty() {
+        float difficulty = Math.min(MAX_DIFFICULTY,
+            gameMode.getStartingDifficulty() + (score * balance.getDifficultyIncreaseRate()));
+        if (difficulty != difficultyMultiplier) {
+            difficultyMultiplier = difficulty;
+            listener.onDifficultyChanged(difficulty);
+        }
+    }
+
+    public float getCurrentSpikeSpeed() {
+        return BASE_SPIKE_SPEED * difficultyMultiplier * slowTimeMultiplier;
+    }
+
+    private void updateComboTimer(float delta) {
+        if (combo > 0) {
+            comboTimer -= delta;
+            comboExpiring = comboTimer <= COMBO_EXPIRING_THRESHOLD && comboTimer > 0;
+
+            if (comboTimer <= 0) {
+                combo = 0;
+                comboTimer = 0;
+                comboExpiring = false;
+            }
+        }
+    }
+
+    private void incrementCombo() {
+        if (combo < MAX_COMBO_VALUE) {
+            combo++;
+        }
+        if (combo > maxCombo) {
+            maxCombo = combo;
+            listener.onMaxComboIncreased(maxCombo);
+        }
+        comboTimer = COMBO_TIMEOUT;
+        comboExpiring = false;
+    }
+
+    void scoreSpike() {
+        int points = calculatePoints();
+        int bonusPoints = calculateBonusPoints();
+        score += points + bonusPoints;
+        listener.onSpikePassed(points, bonusPoints);
+    }
+
+    int calculatePoints() {
+        return 1 * scoreMultiplier;
+    }
+
+    int calculateBonusPoints() {
+        if (combo >= COMBO_THRESHOLD) {
+            return (combo - COMBO_THRESHOLD + 1) * COMBO_BONUS_MULTIPLIER * scoreMultiplier;
+        }
+        return 0;
+    }
+
+    void spawnSpikes() {
+        float gapStart = randomRange(100, worldHeight - spikeGap - 100);
+
+        int spikeIndex = random.nextInt(SPIKE_TEXTURE_COUNT);
+
+        spikes.add(worldWidth, gapStart + spikeGap, spikeWidth, worldHeight - (gapStart + spikeGap), spikeIndex, true);
+        spikes.add(worldWidth, 0, spikeWidth, gapStart, spikeIndex, false);
+    }
+
+    /** Exact rectangle-versus-triangle overlap; touching counts as overlapping. */
+    static boolean rectangleIntersectsTriangle(Rectangle rect, float x1, float y1, float x2, float y2, float x3, float y3) {
+        return sweptRectangleIntersectsTriangle(rect.x, rect.y, rect.width, rect.height, 0, 0, x1, y1, x2, y2, x3, y3);
+    }
+
+    /**
+     * Whether a rectangle moving by {@code (dx, dy)} touches a triangle anywhere along the way. Separating-axis test
+     * of the triangle against the convex hull of the rectangle's start and end positions: the candidate axes are
+     * x, y, the normal of the motion and the three edge normals. Touching counts as overlapping.
+     */
+    static boolean sweptRectangleIntersectsTriangle(float x, float y, float width, float height, float dx, float dy,
+        float x1, float y1, float x2, float y2, float x3, float y3) {
+        // The x and y axes reduce to bounding-box checks
+        float left = dx < 0 ? x + dx : x;
+        float right = (dx > 0 ? x + dx : x) + width;
+        float bottom = dy < 0 ? y + dy : y;
+        float top = (dy > 0 ? y + dy : y) + height;
+        if (right < x1 && right < x2 && right < x3) return false;
+        if (left > x1 && left > x2 && left > x3) return false;
+        if (top < y1 && top < y2 && top < y3) return false;
+        if (bottom > y1 && bottom > y2 && bottom > y3) return false;
+
+        float centerX = x + width / 2;
+        float centerY = y + height / 2;
+        float halfWidth = width / 2;
+        float halfHeight = height / 2;
+
+        // A zero motion gives a zero axis, which never separates
+        if (separates(-dy, dx, centerX, centerY, halfWidth, halfHeight, dx, dy, x1, y1, x2, y2, x3, y3)) return false;
+        if (separates(y1 - y2, x2 - x1, centerX, centerY, halfWidth, halfHeight, dx, dy, x1, y1, x2, y2, x3, y3)) return false;
+        if (separates(y2 - y3, x3 - x2, centerX, centerY, halfWidth, halfHeight, dx, dy, x1, y1, x2, y2, x3, y3)) return false;
+        if (separates(y3 - y1, x1 - x3, centerX, centerY, halfWidth, halfHeight, dx, dy, x1, y1, x2, y2, x3, y3)) return false;
+        return true;
+    }
+
+    private static boolean separates(float axisX, float axisY, float centerX, float centerY, float halfWidth,
+        float halfHeight, float dx, float dy, float x1, float y1, float x2, float y2, float x3, float y3) {
+        float center = centerX * axisX + centerY * axisY;
+        float extent = Math.abs(axisX) * halfWidth + Math.abs(axisY) * halfHeight;
+        float shift = dx * axisX + dy * axisY;
+        float rectMin = center - extent;
+        float rectMax = center + extent;
+        if (shift < 0) {
+            rectMin += shift;
+        } else {
+            rectMax += shift;
+        }
+
+        float p1 = x1 * axisX + y1 * axisY;
+        float p2 = x2 * axisX + y2 * axisY;
+        float p3 = x3 * axisX + y3 * axisY;
+        // Plain comparisons rather than Math.min/max, which pay for NaN and -0 handling on some runtimes
+        if (rectMax < p1 && rectMax < p2 && rectMax < p3) return true;
+        return rectMin > p1 && rectMin > p2 && rectMin > p3;
+    }
+
+    void checkCollisions() {
+        if (invulnerabilityTimer > 0) {
+            return;
+        }
+
+        // Test the rocket's whole path through this tick, not just where it ended up, so a long tick at high speed
+        // cannot carry a spike through it. Seen from the spikes, which all moved left, the rocket moved right by
+        // their shift and vertically by its own motion.
+        float sweepX = getCurrentSpikeSpeed() * tickDelta;
+        float rocketDy = rocketRect.y - previousRocketY;
+
+        float rocketLeft = rocketRect.x - sweepX;
+        float rocketRight = rocketRect.x + rocketRect.width;
+        float rocketBottom = Math.min(rocketRect.y, previousRocketY);
+        float rocketTop = Math.max(rocketRect.y, previousRocketY) + rocketRect.height;
+
+        // Broad phase: while spikes are sorted by x, skip straight to the first one that can reach the rocket
+        // and stop at the first one past it; every candidate must also overlap the rocket's swept bounds
+        boolean sorted = spikes.isSortedByX();
+        int first = sorted ? spikes.firstWithXAtLeast(rocketLeft - spikes.getMaxWidth()) : spikes.begin();
+        for (int i = first, end = spikes.end(); i < end; i++) {
+            float x = spikes.x[i];
+            if (x > rocketRight) {
+                if (sorted) break;
+                continue;
+            }
+            if (x + spikes.width[i] < rocketLeft
+                || spikes.y[i] > rocketTop || spikes.y[i] + spikes.height[i] < rocketBottom) {
+                continue;
+            }
+
+            float shift = spikes.prevX[i] - x;
+            float baseY = spikes.baseY(i);
+            if (sweptRectangleIntersectsTriangle(rocketRect.x - shift, previousRocketY,
+                rocketRect.width, rocketRect.height, shift, rocketDy,
+                x, baseY, spikes.right(i), baseY, spikes.centerX(i), spikes.tipY(i))) {
+                handleCollision();
+                break;
+            }
+        }
+    }
+
+    private void handleCollision() {
+        // ZEN MODE: No death, just combo reset
+        if (gameMode == GameMode.ZEN) {
+            combo = 0;
+            comboTimer = 0;
+            comboExpiring = false;
+            listener.onHit();
+            return;
+        }
+
+        lives--;
+        damageThisRun = true;
+
+        if (lives <= 0) {
+            gameOver = true;
+        } else {
+            invulnerabilityTimer = INVULNERABILITY_TIME;
+
+            combo = 0;
+            comboTimer = 0;
+            comboExpiring = false;
+        }
+
+        listener.onHit();
+    }
+
+    private void updatePowerUps(float delta) {
+        powerUpSpawnTimer += delta;
+        if (powerUpSpawnTimer >= balance.getPowerUpSpawnInterval()) {
+            spawnPowerUp();
+            powerUpSpawnTimer = 0;
+        }
+
+        for (int i = 0; i < activePowerUps.size; i++) {
+            PowerUp powerUp = activePowerUps.get(i);
+            powerUp.animTimer -= delta;
+
+            if (powerUp.animTimer <= 0) {
+                removePowerUpEffect(powerUp.type);
+                powerUpPool.free(activePowerUps.removeIndex(i));
+                i--;
+            }
+        }
+
+        float currentSpeed = getCurrentSpikeSpeed();
+
+        for (int i = 0; i < powerUpsOnScreen.size; i++) {
+            PowerUp powerUp = powerUpsOnScreen.get(i);
+            powerUp.rect.x -= currentSpeed * delta;
+            powerUp.animTimer += delta;
+
+            if (rocketRect.overlaps(powerUp.rect)) {
+                collectPowerUp(powerUp.type);
+                powerUpPool.free(powerUpsOnScreen.removeIndex(i));
+                i--;
+                continue;
+            }
+
+            if (powerUp.rect.x + powerUp.rect.width < 0) {
+                powerUpPool.free(powerUpsOnScreen.removeIndex(i));
+                i--;
+            }
+        }
+    }
+
+    private void spawnPowerUp() {
+        PowerUpType type = POWER_UP_TYPES[random.nextInt(POWER_UP_TYPES.length)];
+        float y = randomRange(100, worldHeight - 100);
+
+        powerUpsOnScreen.add(powerUpPool.obtain().set(worldWidth, y, type));
+    }
+
+    // Same distribution as MathUtils.random(float, float), drawn from the run's own stream
+    private float randomRange(float start, float end) {
+        return start + random.nextFloat() * (end - start);
+    }
+
+    private void collectPowerUp(PowerUpType type) {
+        for (int i = 0; i < activePowerUps.size; i++) {
+            if (activePowerUps.get(i).type == type) {
+                powerUpPool.free(activePowerUps.removeIndex(i));
+                break;
+            }
+        }
+
+        PowerUp powerUp = powerUpPool.obtain().set(0, 0, type);
+        powerUp.animTimer = type.getDuration();
+        activePowerUps.add(powerUp);
+
+        applyPowerUpEffect(type);
+
+        listener.onPowerUpCollected(type);
+    }
+
+    private void applyPowerUpEffect(PowerUpType type) {
+        switch (type) {
+            case SHIELD:
+                invulnerabilityTimer = type.getDuration();
+                break;
+            case SLOW_TIME:
+                slowTimeMultiplier = 0.5f;
+                break;
+            case DOUBLE_POINTS:
+                scoreMultiplier = 2;
+                break;
+            case MAGNET:
+                break;
+        }
+    }
+
+    private void removePowerUpEffect(PowerUpType type) {
+        switch (type) {
+            case SLOW_TIME:
+                slowTimeMultiplier = 1.0f;
+                break;
+            case DOUBLE_POINTS:
+                scoreMultiplier = 1;
+                break;
+            case SHIELD:
+                break;
+            case MAGNET:
+                break;
+        }
+    }
+
+    /**
+     * Appends the whole state of the run to {@code out}, random streams included, so {@link #readState(int[], int)}
+     * continues it exactly. Floats are stored as their bits, and nothing is allocated once {@code out} has room.
+     */
+    void writeState(IntArray out) {
+        out.add(tick);
+        addLong(out, seed);
+        addLong(out, random.getState(0));
+        addLong(out, random.getState(1));
+        addLong(out, cosmeticRandom.getState(0));
+        addLong(out, cosmeticRandom.getState(1));
+
+        addFloat(out, worldWidth);
+        addFloat(out, worldHeight);
+        addFloat(out, rocketRect.x);
+        addFloat(out, rocketRect.y);
+        addFloat(out, rocketRect.width);
+        addFloat(out, rocketRect.height);
+        addFloat(out, rocketY);
+        addFloat(out, previousRocketY);
+        addFloat(out, rocketVelocity);
+        addFloat(out, scrollDistance);
+        addFloat(out, previousScrollDistance);
+        addFloat(out, spikeTimer);
+        addFloat(out, nextSpikeDelay);
+
+        out.add(score);
+        out.add(lives);
+        out.add(combo);
+        out.add(maxCombo);
+        out.add(scoreMultiplier);
+        out.add((gameOver ? 4 : 0) | (comboExpiring ? 2 : 0) | (damageThisRun ? 1 : 0));
+        addFloat(out, invulnerabilityTimer);
+        addFloat(out, difficultyMultiplier);
+        addFloat(out, comboTimer);
+        addFloat(out, powerUpSpawnTimer);
+        addFloat(out, slowTimeMultiplier);
+        addFloat(out, timeAttackTimer);
+
+        spikes.writeState(out);
+        writePowerUps(out, powerUpsOnScreen);
+        writePowerUps(out, activePowerUps);
+    }
+
+    /**
+     * Restores a state written by {@link #writeState(IntArray)} at {@code offset} and returns the offset just past
+     * it. Power-ups come from the simulation's pool, so once it holds as many as a snapshot needs nothing is
+     * allocated.
+     */
+    int readState(int[] state, int offset) {
+        tick = state[offset++];
+        seed = readLong(state, offset);
+        random.setState(readLong(state, offset + 2), readLong(state, offset + 4));
+        cosmeticRandom.setState(readLong(state, offset + 6), readLong(state, offset + 8));
+        offset += 10;
+
+        resize(Float.intBitsToFloat(state[offset]), Float.intBitsToFloat(state[offset + 1]));
+        rocketRect.set(Float.intBitsToFloat(state[offset + 2]), Float.intBitsToFloat(state[offset + 3]),
+            Float.intBitsToFloat(state[offset + 4]), Float.intBitsToFloat(state[offset + 5]));
+        rocketY = Float.intBitsToFloat(state[offset + 6]);
+        previousRocketY = Float.intBitsToFloat(state[offset + 7]);
+        rocketVelocity = Float.intBitsToFloat(state[offset + 8]);
+        scrollDistance = Float.intBitsToFloat(state[offset + 9]);
+        previousScrollDistance = Float.intBitsToFloat(state[offset + 10]);
+        spikeTimer = Float.intBitsToFloat(state[offset + 11]);
+        nextSpikeDelay = Float.intBitsToFloat(state[offset + 12]);
+        offset += 13;
+
+        score = state[offset];
+        lives = state[offset + 1];
+        combo = state[offset + 2];
+        maxCombo = state[offset + 3];
+        scoreMultiplier = state[offset + 4];
+        int flags = state[offset + 5];
+        gameOver = (flags & 4) != 0;
+        comboExpiring = (flags & 2) != 0;
+        damageThisRun = (flags & 1) != 0;
+        invulnerabilityTimer = Float.intBitsToFloat(state[offset + 6]);
+        difficultyMultiplier = Float.intBitsToFloat(state[offset + 7]);
+        comboTimer = Float.intBitsToFloat(state[offset + 8]);
+        powerUpSpawnTimer = Float.intBitsToFloat(state[offset + 9]);
+        slowTimeMultiplier = Float.intBitsToFloat(state[offset + 10]);
+        timeAttackTimer = Float.intBitsToFloat(state[offset + 11]);
+        offset += 12;
+
+        offset = spikes.readState(state, offset);
+        offset = readPowerUps(state, offset, powerUpsOnScreen);
+        return readPowerUps(state, offset, activePowerUps);
+    }
+
+    private static void writePowerUps(IntArray out, Array<PowerUp> powerUps) {
+        out.add(powerUps.size);
+        for (int i = 0; i < powerUps.size; i++) {
+            PowerUp powerUp = powerUps.get(i);
+            out.add(powerUp.type.ordinal());
+            addFloat(out, powerUp.rect.x);
+            addFloat(out, powerUp.rect.y);
+            addFloat(out, powerUp.prevX);
+            addFloat(out, powerUp.animTimer);
+        }
+    }
+
+    private int readPowerUps(int[] state, int offset, Array<PowerUp> powerUps) {
+        freePowerUps(powerUps);
+        int count = state[offset++];
+        for (int i = 0; i < count; i++) {
+            PowerUp powerUp = powerUpPool.obtain().set(Float.intBitsToFloat(state[offset + 1]),
+                Float.intBitsToFloat(state[offset + 2]), POWER_UP_TYPES[state[offset]]);
+            powerUp.prevX = Float.intBitsToFloat(state[offset + 3]);
+            powerUp.animTimer = Float.intBitsToFloat(state[offset + 4]);
+            powerUps.add(powerUp);
+            offset += 5;
+        }
+        return offset;
+    }
+
+    private static void addFloat(IntArray out, float value) {
+        out.add(Float.floatToRawIntBits(value));
+    }
+
+    private static void addLong(IntArray out, long value) {
+        out.add((int)(value >>> 32));
+        out.add((int)value);
+    }
+
+    private static long readLong(int[] state, int offset) {
+        return (long)state[offset] << 32 | (state[offset + 1] & 0xffffffffL);
+    }
+
+    SpikeBuffer getSpikes() {
+        return spikes;
+    }
+
+    Array<PowerUp> getPowerUpsOnScreen() {
+        return powerUpsOnScreen;
+    }
+
+    Array<PowerUp> getActivePowerUps() {
+        return activePowerUps;
+    }
+
+    public GameMode getGameMode() {
+        return gameMode;
+    }
+
+    public GameBalance getBalance() {
+        return balance;
+    }
+
+    public Rectangle getRocketRect() {
+        return rocketRect;
+    }
+
+    /** Rocket y between the previous and the current tick; {@code alpha} is the fraction of a tick elapsed. */
+    public float getInterpolatedRocketY(float alpha) {
+        return previousRocketY + (rocketRect.y - previousRocketY) * alpha;
+    }
+
+    /** Distance the world has scrolled between the previous and the current tick, at the spikes' speed. */
+    public float getInterpolatedScrollDistance(float alpha) {
+        return previousScrollDistance + (scrollDistance - previousScrollDistance) * alpha;
+    }
+
+    /** Seed of the current run; passing it to {@link #reset(long)} starts the same run again. */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Generator for visual effects such as screen shake, seeded from the run's seed. Drawing from it never changes
+     * the gameplay.
+     */
+    RandomXS128 getCosmeticRandom() {
+        return cosmeticRandom;
+    }
+
+    public float getTickDelta() {
+        return tickDelta;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public float getRocketVelocity() {
+        return rocketVelocity;
+    }
+
+    public float getWorldWidth() {
+        return worldWidth;
+    }
+
+    public float getWorldHeight() {
+        return worldHeight;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public float getInvulnerabilityTimer() {
+        return invulnerabilityTimer;
+    }
+
+    public float getDifficultyMultiplier() {
+        return difficultyMultiplier;
+    }
+
+    public int getCombo() {
+        return combo;
+    }
+
+    public int getMaxCombo() {
+        return maxCombo;
+    }
+
+    public float getComboTimer() {
+        return comboTimer;
+    }
+
+    public float getComboTimeout() {
+        return COMBO_TIMEOUT;
+    }
+
+    public boolean isComboExpiring() {
+        return comboExpiring;
+    }
+
+    public boolean isDamageThisRun() {
+        return damageThisRun;
+    }
+
+    public float getTimeAttackTimer() {
+        return timeAttackTimer;
+    }
+}
@@ -0,0 +1,108 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.CharArray;
+
+/**
+ * One line of HUD text that is only laid out again when its value changes. Numbers are written into a reused
+ * char buffer instead of going through string concatenation or {@code String.format}, and the glyph vertices are
+ * kept in a font cache that is moved and tinted in place, so drawing it every frame allocates nothing.
+ */
+final class HudText {
+    // The longest number setInt or setTenths can show
+    private static final String WIDEST_NUMBER = "-214748364.8";
+
+    private final BitmapFont font;
+    private final BitmapFontCache cache;
+    private final GlyphLayout layout = new GlyphLayout();
+    private final CharArray text = new CharArray(32);
+    private final int prefixLength;
+    private final String suffix;
+
+    private boolean hasValue;
+    private int value;
+
+    HudText(BitmapFont font) {
+        this(font, "");
+    }
+
+    HudText(BitmapFont font, String prefix) {
+        this(font, prefix, "");
+    }
+
+    HudText(BitmapFont font, String prefix, String suffix) {
+        this.font = font;
+        this.cache = new BitmapFontCache(font, font.usesIntegerPositions());
+        text.append(prefix);
+        prefixLength = prefix.length();
+        this.suffix = suffix;
+
+        // Sizes the glyph and vertex arrays for the widest value once, so a score gaining a digit mid-run does not
+        // grow them
+        text.append(WIDEST_NUMBER);
+        layout();
+        text.setLength(prefixLength);
+        layout.reset();
+        cache.clear();
+    }
+
+    /** Shows {@code value} between the prefix and suffix. */
+    void setInt(int value) {
+        if (hasValue && this.value == value) return;
+        hasValue = true;
+        this.value = value;
+
+        text.setLength(prefixLength);
+        text.append(value);
+        layout();
+    }
+
+    /** Shows {@code value} rounded to one decimal place, e.g. {@code 12.5}, between the prefix and suffix. */
+    void setTenths(float value) {
+        int tenths = Math.round(value * 10);
+        if (hasValue && this.value == tenths) return;
+        hasValue = true;
+        this.value = tenths;
+
+        text.setLength(prefixLength);
+        if (tenths < 0) {
+            text.append('-');
+            tenths = -tenths;
+        }
+        text.append(tenths / 10).append('.').append(tenths % 10);
+        layout();
+    }
+
+    /** Replaces the text between the prefix and suffix; meant for labels that change rarely, not every frame. */
+    void setText(CharSequence value) {
+        hasValue = false;
+
+        text.setLength(prefixLength);
+        text.append(value);
+        layout();
+    }
+
+    private void layout() {
+        text.append(suffix);
+        layout.setText(font, text);
+        cache.clear();
+        cache.addText(layout, 0, 0);
+    }
+
+    float getWidth() {
+        return layout.width;
+    }
+
+    float getHeight() {
+        return layout.height;
+    }
+
+    void draw(Batch batch, float x, float y, float r, float g, float b, float a) {
+        cache.setPosition(x, y);
+        cache.setColors(r, g, b, a);
+        cache.draw(batch);
+    }
+}
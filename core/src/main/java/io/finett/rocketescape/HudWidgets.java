@@ -0,0 +1,94 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * The HUD's {@link HudShapes} as sprites: a heart, a round orb and a single pixel for solid rectangles. The asset
+ * baker packs them into the shared atlas, so they draw in the same batch as the gameplay sprites and fonts; without
+ * a baked atlas they are rasterized into a texture of their own on first use.
+ */
+final class HudWidgets implements Disposable {
+    private static final int PADDING = 2;
+
+    private final Assets assets;
+    private TextureRegion heart;
+    private TextureRegion orb;
+    private TextureRegion pixel;
+    private Texture fallback;
+
+    HudWidgets(Assets assets) {
+        this.assets = assets;
+    }
+
+    /** Heart for a life; its height is three quarters of its width. */
+    TextureRegion heart() {
+        load();
+        return heart;
+    }
+
+    /** Filled circle touching the region's edges. */
+    TextureRegion orb() {
+        load();
+        return orb;
+    }
+
+    /** One white pixel, stretched to draw filled rectangles. */
+    TextureRegion pixel() {
+        load();
+        return pixel;
+    }
+
+    private void load() {
+        if (pixel != null) return;
+
+        TextureAtlas atlas = assets.getAtlas();
+        if (atlas != null && atlas.findRegion(HudShapes.PIXEL) != null) {
+            heart = atlas.findRegion(HudShapes.HEART);
+            orb = atlas.findRegion(HudShapes.ORB);
+            pixel = atlas.findRegion(HudShapes.PIXEL);
+            return;
+        }
+
+        // Side by side on one texture, so the HUD still costs a single texture switch
+        Pixmap[] images = new Pixmap[HudShapes.NAMES.length];
+        int width = 0;
+        int height = 0;
+        for (int i = 0; i < HudShapes.NAMES.length; i++) {
+            images[i] = HudShapes.draw(HudShapes.NAMES[i]);
+            width += images[i].getWidth() + PADDING;
+            height = Math.max(height, images[i].getHeight());
+        }
+        Pixmap sheet = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+        sheet.setBlending(Pixmap.Blending.None);
+        int x = 0;
+        for (Pixmap image : images) {
+            sheet.drawPixmap(image, x, 0);
+            x += image.getWidth() + PADDING;
+        }
+        fallback = new Texture(sheet);
+        sheet.dispose();
+
+        TextureRegion[] regions = new TextureRegion[HudShapes.NAMES.length];
+        x = 0;
+        for (int i = 0; i < HudShapes.NAMES.length; i++) {
+            regions[i] = new TextureRegion(fallback, x, 0, images[i].getWidth(), images[i].getHeight());
+            x += images[i].getWidth() + PADDING;
+            images[i].dispose();
+        }
+        heart = regions[0];
+        orb = regions[1];
+        pixel = regions[2];
+    }
+
+    @Override
+    public void dispose() {
+        if (fallback != null) {
+            fallback.dispose();
+            fallback = null;
+        }
+    }
+}
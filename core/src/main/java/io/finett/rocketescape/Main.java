@@ -1,12 +1,22 @@
 package io.finett.rocketescape;
 
+import java.util.EnumSet;
+
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.files.FileHandle;
 
 /** {@link com.badlogic.gdx.ApplicationListener} implementation shared by all platforms. */
 public class Main extends Game {
-    private Preferences preferences;
+    private StatsStore stats;
+    private Assets assets;
+    private Fonts fonts;
+    private HudWidgets hudWidgets;
+    private PowerUpGlow powerUpGlow;
+    private Starfield starfield;
+    private ParallaxBackground parallaxBackground;
+    // Unlocked achievements, loaded once so gameplay checks never go through Preferences
+    private final EnumSet<Achievement> unlockedAchievements = EnumSet.noneOf(Achievement.class);
 
     private static final String PREFS_NAME = "rocket_escape_prefs";
     private static final String PREF_HIGH_SCORE = "high_score";
@@ -18,113 +28,194 @@ public class Main extends Game {
     private static final String PREF_MAX_SCORE_NO_DAMAGE = "max_score_no_damage";
     @Override
     public void create() {
-        preferences = Gdx.app.getPreferences(PREFS_NAME);
+        loadPreferences();
+        assets = new Assets();
+        assets.preload();
+        fonts = new Fonts(assets);
+        hudWidgets = new HudWidgets(assets);
+        powerUpGlow = new PowerUpGlow(hudWidgets);
+        starfield = new Starfield();
+        parallaxBackground = new ParallaxBackground();
         setScreen(new MainMenuScreen(this));
     }
 
+    void loadPreferences() {
+        stats = new StatsStore(Gdx.app.getPreferences(PREFS_NAME));
+
+        unlockedAchievements.clear();
+        for (Achievement achievement : Achievement.values()) {
+            if (stats.getBoolean(achievement.getPreferenceKey(), false)) {
+                unlockedAchievements.add(achievement);
+            }
+        }
+    }
+
+    Assets getAssets() {
+        return assets;
+    }
+
+    Fonts getFonts() {
+        return fonts;
+    }
+
+    HudWidgets getHudWidgets() {
+        return hudWidgets;
+    }
+
+    PowerUpGlow getPowerUpGlow() {
+        return powerUpGlow;
+    }
+
+    Starfield getStarfield() {
+        return starfield;
+    }
+
+    ParallaxBackground getParallaxBackground() {
+        return parallaxBackground;
+    }
+
+    /** Saves changed stats in the background; call at pauses in play, never mid-run. */
+    public void checkpointStats() {
+        stats.checkpoint();
+    }
+
+    /** Replaces {@code file} with {@code bytes} on the stats writer thread, so saving never stalls a frame. */
+    void saveInBackground(FileHandle file, byte[] bytes) {
+        stats.writeBytes(file, bytes);
+    }
+
     public int getHighScore() {
-        return preferences.getInteger(PREF_HIGH_SCORE, 0);
+        return stats.getInteger(PREF_HIGH_SCORE, 0);
     }
 
     public void setHighScore(int score) {
         if (score > getHighScore()) {
-            preferences.putInteger(PREF_HIGH_SCORE, score);
-            preferences.flush();
+            stats.putInteger(PREF_HIGH_SCORE, score);
         }
     }
 
     public boolean isSoundEnabled() {
-        return preferences.getBoolean(PREF_SOUND_ENABLED, true);
+        return stats.getBoolean(PREF_SOUND_ENABLED, true);
     }
 
     public void setSoundEnabled(boolean enabled) {
-        preferences.putBoolean(PREF_SOUND_ENABLED, enabled);
-        preferences.flush();
+        stats.putBoolean(PREF_SOUND_ENABLED, enabled);
+        stats.checkpoint();
     }
 
     public boolean isMusicEnabled() {
-        return preferences.getBoolean(PREF_MUSIC_ENABLED, true);
+        return stats.getBoolean(PREF_MUSIC_ENABLED, true);
     }
 
     public void setMusicEnabled(boolean enabled) {
-        preferences.putBoolean(PREF_MUSIC_ENABLED, enabled);
-        preferences.flush();
+        stats.putBoolean(PREF_MUSIC_ENABLED, enabled);
+        stats.checkpoint();
     }
     public void incrementPowerupsCollected() {
-        int current = preferences.getInteger(PREF_TOTAL_POWERUPS, 0);
-        preferences.putInteger(PREF_TOTAL_POWERUPS, current + 1);
-        preferences.flush();
+        int current = stats.getInteger(PREF_TOTAL_POWERUPS, 0);
+        stats.putInteger(PREF_TOTAL_POWERUPS, current + 1);
     }
 
     public int getTotalPowerups() {
-        return preferences.getInteger(PREF_TOTAL_POWERUPS, 0);
+        return stats.getInteger(PREF_TOTAL_POWERUPS, 0);
     }
     // Achievement tracking methods
     public void incrementGamesPlayed() {
-        int current = preferences.getInteger(PREF_GAMES_PLAYED, 0);
-        preferences.putInteger(PREF_GAMES_PLAYED, current + 1);
-        preferences.flush();
+        int current = stats.getInteger(PREF_GAMES_PLAYED, 0);
+        stats.putInteger(PREF_GAMES_PLAYED, current + 1);
     }
 
     public int getGamesPlayed() {
-        return preferences.getInteger(PREF_GAMES_PLAYED, 0);
+        return stats.getInteger(PREF_GAMES_PLAYED, 0);
     }
 
     public void updateMaxCombo(int combo) {
         if (combo > getMaxComboEver()) {
-            preferences.putInteger(PREF_MAX_COMBO_EVER, combo);
-            preferences.flush();
+            stats.putInteger(PREF_MAX_COMBO_EVER, combo);
         }
     }
 
     public int getMaxComboEver() {
-        return preferences.getInteger(PREF_MAX_COMBO_EVER, 0);
+        return stats.getInteger(PREF_MAX_COMBO_EVER, 0);
     }
 
     public void updateMaxScoreNoDamage(int score) {
         if (score > getMaxScoreNoDamage()) {
-            preferences.putInteger(PREF_MAX_SCORE_NO_DAMAGE, score);
-            preferences.flush();
+            stats.putInteger(PREF_MAX_SCORE_NO_DAMAGE, score);
         }
     }
 
     public int getMaxScoreNoDamage() {
-        return preferences.getInteger(PREF_MAX_SCORE_NO_DAMAGE, 0);
+        return stats.getInteger(PREF_MAX_SCORE_NO_DAMAGE, 0);
     }
 
     public boolean isAchievementUnlocked(Achievement achievement) {
-        return preferences.getBoolean("achievement_" + achievement.name(), false);
+        return unlockedAchievements.contains(achievement);
     }
 
     public void unlockAchievement(Achievement achievement) {
-        if (!isAchievementUnlocked(achievement)) {
-            preferences.putBoolean("achievement_" + achievement.name(), true);
-            preferences.flush();
+        if (unlockedAchievements.add(achievement)) {
+            stats.putBoolean(achievement.getPreferenceKey(), true);
         }
     }
 
     public int getUnlockedAchievementsCount() {
-        int count = 0;
-        for (Achievement achievement : Achievement.values()) {
-            if (isAchievementUnlocked(achievement)) {
-                count++;
-            }
-        }
-        return count;
+        return unlockedAchievements.size();
     }
     public void resetAllAchievements() {
+        unlockedAchievements.clear();
         for (Achievement achievement : Achievement.values()) {
-            preferences.putBoolean("achievement_" + achievement.name(), false);
+            stats.putBoolean(achievement.getPreferenceKey(), false);
         }
         // Also reset tracking stats
-        preferences.putInteger(PREF_GAMES_PLAYED, 0);
-        preferences.putInteger(PREF_MAX_COMBO_EVER, 0);
-        preferences.putInteger(PREF_MAX_SCORE_NO_DAMAGE, 0);
-        preferences.putInteger(PREF_TOTAL_POWERUPS, 0);
-        preferences.flush();
+        stats.putInteger(PREF_GAMES_PLAYED, 0);
+        stats.putInteger(PREF_MAX_COMBO_EVER, 0);
+        stats.putInteger(PREF_MAX_SCORE_NO_DAMAGE, 0);
+        stats.putInteger(PREF_TOTAL_POWERUPS, 0);
+        stats.checkpoint();
     }
+    @Override
+    public void render() {
+        assets.update();
+        super.render();
+    }
+
+    @Override
+    public void pause() {
+        super.pause();
+        stats.checkpoint();
+    }
+
     @Override
     public void dispose() {
         super.dispose();
+        if (stats != null) {
+            stats.dispose();
+            stats = null;
+        }
+        if (assets != null) {
+            assets.dispose();
+            assets = null;
+        }
+        if (fonts != null) {
+            fonts.dispose();
+            fonts = null;
+        }
+        if (hudWidgets != null) {
+            hudWidgets.dispose();
+            hudWidgets = null;
+        }
+        if (powerUpGlow != null) {
+            powerUpGlow.dispose();
+            powerUpGlow = null;
+        }
+        if (starfield != null) {
+            starfield.dispose();
+            starfield = null;
+        }
+        if (parallaxBackground != null) {
+            parallaxBackground.dispose();
+            parallaxBackground = null;
+        }
     }
 }
@@ -7,7 +7,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
@@ -18,7 +18,7 @@ public class MainMenuScreen implements Screen {
     private SpriteBatch batch;
     private ShapeRenderer shapeRenderer;
     private Texture background;
-    private Texture rocket;
+    private TextureRegion rocket;
     private BitmapFont titleFont;
     private BitmapFont menuFont;
     private BitmapFont smallFont;
@@ -36,10 +36,7 @@ public class MainMenuScreen implements Screen {
 
     private float rocketY;
     private float rocketAnimTimer;
-    private float[] starX;
-    private float[] starY;
-    private float[] starSpeed;
-    private static final int STAR_COUNT = 50;
+    private Starfield starfield;
 
     private static final float BUTTON_WIDTH = 250f;
     private static final float BUTTON_HEIGHT = 60f;
@@ -56,28 +53,12 @@ public class MainMenuScreen implements Screen {
     public void show() {
         batch = new SpriteBatch();
         shapeRenderer = new ShapeRenderer();
-        background = new Texture("space-bg.png");
-        rocket = new Texture("rocket.png");
-
-        // Safe font generation with try-finally
-        FreeTypeFontGenerator generator = null;
-        try {
-            generator = new FreeTypeFontGenerator(Gdx.files.internal("PressStart2P-Regular.ttf"));
-            FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-
-            parameter.size = 48;
-            titleFont = generator.generateFont(parameter);
-
-            parameter.size = 20;
-            menuFont = generator.generateFont(parameter);
-
-            parameter.size = 14;
-            smallFont = generator.generateFont(parameter);
-        } finally {
-            if (generator != null) {
-                generator.dispose();
-            }
-        }
+        background = game.getAssets().acquireTexture(Assets.BACKGROUND);
+        rocket = game.getAssets().acquireRegion(Assets.ROCKET);
+
+        titleFont = game.getFonts().get(48);
+        menuFont = game.getFonts().get(20);
+        smallFont = game.getFonts().get(14);
 
         titleLayout = new GlyphLayout();
         playLayout = new GlyphLayout();
@@ -99,15 +80,8 @@ public class MainMenuScreen implements Screen {
         achievementsButton = new Rectangle(centerX - BUTTON_WIDTH / 2, startY - BUTTON_HEIGHT - BUTTON_SPACING, BUTTON_WIDTH, BUTTON_HEIGHT);
         settingsButton = new Rectangle(centerX - BUTTON_WIDTH / 2, startY - (BUTTON_HEIGHT + BUTTON_SPACING) * 2, BUTTON_WIDTH, BUTTON_HEIGHT);
         exitButton = new Rectangle(centerX - BUTTON_WIDTH / 2, startY - (BUTTON_HEIGHT + BUTTON_SPACING) * 3, BUTTON_WIDTH, BUTTON_HEIGHT);
-        starX = new float[STAR_COUNT];
-        starY = new float[STAR_COUNT];
-        starSpeed = new float[STAR_COUNT];
-
-        for (int i = 0; i < STAR_COUNT; i++) {
-            starX[i] = MathUtils.random(0, Gdx.graphics.getWidth());
-            starY[i] = MathUtils.random(0, Gdx.graphics.getHeight());
-            starSpeed[i] = MathUtils.random(20f, 100f);
-        }
+        // Shared with later visits to the menu, so the stars keep drifting from where they were
+        starfield = game.getStarfield();
 
         rocketY = Gdx.graphics.getHeight() * 0.7f;
         rocketAnimTimer = 0;
@@ -120,13 +94,7 @@ public class MainMenuScreen implements Screen {
         float rocketOffsetY = MathUtils.sin(rocketAnimTimer * 2f) * 20f;
         float rocketOffsetX = MathUtils.sin(rocketAnimTimer * 1.5f) * 10f;
 
-        for (int i = 0; i < STAR_COUNT; i++) {
-            starX[i] -= starSpeed[i] * delta;
-            if (starX[i] < 0) {
-                starX[i] = Gdx.graphics.getWidth();
-                starY[i] = MathUtils.random(0, Gdx.graphics.getHeight());
-            }
-        }
+        starfield.update(delta);
 
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
@@ -145,16 +113,8 @@ public class MainMenuScreen implements Screen {
         batch.setColor(1, 1, 1, 1);
         batch.end();
 
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(1, 1, 1, 0.8f);
-        for (int i = 0; i < STAR_COUNT; i++) {
-            float size = starSpeed[i] / 50f;
-            shapeRenderer.circle(starX[i], starY[i], size);
-        }
-        shapeRenderer.end();
-
-        Gdx.gl.glEnable(GL20.GL_BLEND);
-        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        // Leaves blending enabled for the buttons
+        starfield.draw(batch.getProjectionMatrix(), Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         drawButton(playButton, playHover);
@@ -166,7 +126,7 @@ public class MainMenuScreen implements Screen {
         batch.begin();
 
         float rocketWidth = 80;
-        float rocketHeight = 80 * ((float) rocket.getHeight() / rocket.getWidth());
+        float rocketHeight = 80 * ((float) rocket.getRegionHeight() / rocket.getRegionWidth());
         float rocketX = Gdx.graphics.getWidth() * 0.8f + rocketOffsetX;
         batch.draw(rocket, rocketX, rocketY + rocketOffsetY, rocketWidth, rocketHeight);
 
@@ -256,10 +216,7 @@ public class MainMenuScreen implements Screen {
     public void dispose() {
         if (batch != null) batch.dispose();
         if (shapeRenderer != null) shapeRenderer.dispose();
-        if (background != null) background.dispose();
-        if (rocket != null) rocket.dispose();
-        if (titleFont != null) titleFont.dispose();
-        if (menuFont != null) menuFont.dispose();
-        if (smallFont != null) smallFont.dispose();
+        if (background != null) game.getAssets().release(Assets.BACKGROUND);
+        if (rocket != null) game.getAssets().releaseRegion(Assets.ROCKET);
     }
 }
@@ -0,0 +1,141 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * The gameplay background as parallax layers: the background image and two star layers behind the spikes, each
+ * scrolling at its own fraction of the spikes' speed. All layers are one full-screen quad whose shader moves texture
+ * coordinates, so scrolling never rebuilds geometry and the frame keeps a single background draw. The star tile is
+ * generated once, on first use, and shared by every run.
+ */
+final class ParallaxBackground implements Disposable {
+    static final String VERTEX_SHADER = "shaders/parallax.vert";
+    static final String FRAGMENT_SHADER = "shaders/parallax.frag";
+
+    // Fractions of the spikes' speed; the spikes are the foreground at 1
+    private static final float BACKGROUND_SPEED = 0.1f;
+    private static final float FAR_STARS_SPEED = 0.3f;
+    private static final float NEAR_STARS_SPEED = 0.6f;
+    // Shifts the near layer so the two layers do not start out lined up
+    private static final float NEAR_STARS_SHIFT = 0.5f;
+
+    // A power of two, so the tile can repeat on every GL ES 2 device
+    private static final int TILE_SIZE = 256;
+    private static final int FAR_STARS = 120;
+    private static final int NEAR_STARS = 40;
+    // Same tile every run
+    private static final long TILE_SEED = 0x5eed5ca1eL;
+    private static final int STARS_UNIT = 1;
+
+    private ShaderProgram shader;
+    private Pixmap tile;
+    private Texture stars;
+
+    /**
+     * Draws {@code background} and the star layers over the whole screen, tinted by the batch colour.
+     * {@code distance} is how far the world has scrolled and {@code shakeX} the screen shake, both in pixels. Expects
+     * the batch to be drawing.
+     */
+    void draw(Batch batch, Texture background, float distance, float shakeX) {
+        if (shader == null) {
+            load();
+        }
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+
+        batch.setShader(shader);
+        // The batch only binds its own texture, on unit 0, so the tile goes on the next unit
+        stars.bind(STARS_UNIT);
+        Gdx.gl.glActiveTexture(GL20.GL_TEXTURE0);
+        shader.setUniformi("u_stars", STARS_UNIT);
+        // Offsets are wrapped here, so the shader only ever sees small texture coordinates
+        shader.setUniformf("u_backgroundOffset", wrap((distance * BACKGROUND_SPEED - shakeX) / width));
+        shader.setUniformf("u_far", width / TILE_SIZE, height / TILE_SIZE,
+            wrap((distance * FAR_STARS_SPEED - shakeX) / TILE_SIZE), 0);
+        shader.setUniformf("u_near", width / TILE_SIZE, height / TILE_SIZE,
+            wrap((distance * NEAR_STARS_SPEED - shakeX) / TILE_SIZE + NEAR_STARS_SHIFT), NEAR_STARS_SHIFT);
+
+        batch.draw(background, 0, 0, width, height);
+        batch.setShader(null);
+    }
+
+    private void load() {
+        shader = new ShaderProgram(Gdx.files.internal(VERTEX_SHADER), Gdx.files.internal(FRAGMENT_SHADER));
+        if (!shader.isCompiled()) {
+            String log = shader.getLog();
+            shader.dispose();
+            shader = null;
+            throw new GdxRuntimeException("Could not compile the parallax shader: " + log);
+        }
+
+        tile = drawTile();
+        // Managed, so the texture is rebuilt from the kept pixmap when the GL context is lost
+        stars = new Texture(new PixmapTextureData(tile, null, false, false, true));
+        stars.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        stars.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
+    }
+
+    // Far stars in the red channel, near stars in green, so both layers share one texture
+    private static Pixmap drawTile() {
+        Pixmap pixmap = new Pixmap(TILE_SIZE, TILE_SIZE, Pixmap.Format.RGBA8888);
+        pixmap.setBlending(Pixmap.Blending.None);
+        pixmap.setColor(0, 0, 0, 0);
+        pixmap.fill();
+
+        RandomXS128 random = new RandomXS128(TILE_SEED);
+        for (int i = 0; i < FAR_STARS; i++) {
+            int x = random.nextInt(TILE_SIZE);
+            int y = random.nextInt(TILE_SIZE);
+            plot(pixmap, x, y, 0.4f + random.nextFloat() * 0.6f, 0);
+        }
+        for (int i = 0; i < NEAR_STARS; i++) {
+            int x = random.nextInt(TILE_SIZE);
+            int y = random.nextInt(TILE_SIZE);
+            float brightness = 0.6f + random.nextFloat() * 0.4f;
+            // Near stars are two pixels across, wrapped so they stay whole where the tile repeats
+            for (int dy = 0; dy < 2; dy++) {
+                for (int dx = 0; dx < 2; dx++) {
+                    plot(pixmap, (x + dx) % TILE_SIZE, (y + dy) % TILE_SIZE, 0, brightness);
+                }
+            }
+        }
+        return pixmap;
+    }
+
+    private static void plot(Pixmap pixmap, int x, int y, float far, float near) {
+        int existing = pixmap.getPixel(x, y);
+        float r = Math.max(far, ((existing >>> 24) & 0xff) / 255f);
+        float g = Math.max(near, ((existing >>> 16) & 0xff) / 255f);
+        pixmap.drawPixel(x, y, Color.rgba8888(r, g, 0, 1));
+    }
+
+    private static float wrap(float value) {
+        return value - (float)Math.floor(value);
+    }
+
+    @Override
+    public void dispose() {
+        if (shader != null) {
+            shader.dispose();
+            shader = null;
+        }
+        if (stars != null) {
+            stars.dispose();
+            stars = null;
+        }
+        if (tile != null) {
+            tile.dispose();
+            tile = null;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * Live copies of one particle effect, each emitting for a short burst and returned to a pool once its last particle
+ * dies. A budget of live effects and particles bounds the cost of a frame however fast effects are spawned: past the
+ * effect cap the oldest effect is dropped, and past the particle cap new bursts are skipped and running ones stop
+ * emitting early.
+ */
+final class ParticleManager {
+    private final ParticleEffectPool pool;
+    private final int maxEffects;
+    private final int maxParticles;
+    private final float emitTime;
+
+    private final Array<ParticleEffectPool.PooledEffect> effects;
+    // Emission time left per live effect; stops counting once the effect is told to finish
+    private final FloatArray emitTimers;
+    private int activeParticles;
+
+    /** Copies of {@code prototype} are made up front, so spawning never allocates. */
+    ParticleManager(ParticleEffect prototype, int maxEffects, int maxParticles, float emitTime) {
+        this.maxEffects = maxEffects;
+        this.maxParticles = maxParticles;
+        this.emitTime = emitTime;
+        pool = new ParticleEffectPool(prototype, maxEffects, maxEffects);
+        pool.fill(maxEffects);
+        effects = new Array<ParticleEffectPool.PooledEffect>(maxEffects);
+        emitTimers = new FloatArray(maxEffects);
+    }
+
+    /** Starts a burst at (x, y), unless the particle budget is already spent. */
+    void spawn(float x, float y) {
+        if (activeParticles >= maxParticles) return;
+        if (effects.size >= maxEffects) {
+            effects.removeIndex(0).free();
+            emitTimers.removeIndex(0);
+        }
+
+        ParticleEffectPool.PooledEffect effect = pool.obtain();
+        // Blending is restored once after all effects are drawn instead of after every emitter
+        effect.setEmittersCleanUpBlendFunction(false);
+        effect.setPosition(x, y);
+        effect.start();
+        effects.add(effect);
+        emitTimers.add(emitTime);
+    }
+
+    /** Advances every live effect by {@code delta} seconds and draws it. Expects the batch to be drawing. */
+    void draw(Batch batch, float delta) {
+        if (effects.size == 0) return;
+
+        boolean overBudget = activeParticles > maxParticles;
+        activeParticles = 0;
+        for (int i = 0; i < effects.size; i++) {
+            ParticleEffectPool.PooledEffect effect = effects.get(i);
+
+            float emitting = emitTimers.get(i);
+            if (emitting > 0) {
+                emitting = overBudget ? 0 : emitting - delta;
+                if (emitting <= 0) {
+                    // Stops emission now and lets the live particles run out
+                    effect.allowCompletion();
+                }
+                emitTimers.set(i, emitting);
+            }
+
+            effect.draw(batch, delta);
+            if (effect.isComplete()) {
+                effects.removeIndex(i).free();
+                emitTimers.removeIndex(i);
+                i--;
+                continue;
+            }
+
+            Array<ParticleEmitter> emitters = effect.getEmitters();
+            for (int e = 0; e < emitters.size; e++) {
+                activeParticles += emitters.get(e).getActiveCount();
+            }
+        }
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    /** Returns every live effect to the pool. */
+    void clear() {
+        for (int i = 0; i < effects.size; i++) {
+            effects.get(i).free();
+        }
+        effects.clear();
+        emitTimers.clear();
+        activeParticles = 0;
+    }
+
+    int getActiveParticles() {
+        return activeParticles;
+    }
+
+    int getLiveEffects() {
+        return effects.size;
+    }
+}
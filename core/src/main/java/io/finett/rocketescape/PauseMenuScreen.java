@@ -6,7 +6,6 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 
@@ -42,21 +41,8 @@ public class PauseMenuScreen implements Screen {
         batch = new SpriteBatch();
         shapeRenderer = new ShapeRenderer();
 
-        FreeTypeFontGenerator generator = null;
-        try {
-            generator = new FreeTypeFontGenerator(Gdx.files.internal("PressStart2P-Regular.ttf"));
-            FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-
-            parameter.size = 36;
-            titleFont = generator.generateFont(parameter);
-
-            parameter.size = 18;
-            menuFont = generator.generateFont(parameter);
-        } finally {
-            if (generator != null) {
-                generator.dispose();
-            }
-        }
+        titleFont = game.getFonts().get(36);
+        menuFont = game.getFonts().get(18);
 
         pausedLayout = new GlyphLayout();
         resumeLayout = new GlyphLayout();
@@ -173,7 +159,5 @@ public class PauseMenuScreen implements Screen {
     public void dispose() {
         if (batch != null) batch.dispose();
         if (shapeRenderer != null) shapeRenderer.dispose();
-        if (titleFont != null) titleFont.dispose();
-        if (menuFont != null) menuFont.dispose();
     }
 }
@@ -0,0 +1,81 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Draws each power-up on screen as one quad whose glow, pulse and colour come from a shader. The pulse runs on a
+ * time uniform, so the CPU writes four vertices per power-up and no trigonometry; the vertex alpha carries each
+ * power-up's phase so they keep pulsing out of step. The shader is compiled on first use and shared by every run.
+ */
+final class PowerUpGlow implements Disposable {
+    static final String VERTEX_SHADER = "shaders/glow.vert";
+    static final String FRAGMENT_SHADER = "shaders/glow.frag";
+
+    // Must match glow.vert
+    private static final float PULSE_SPEED = 5f;
+    private static final float PULSE_PERIOD = MathUtils.PI2 / PULSE_SPEED;
+    // The quad's half size relative to the orb's radius: a 1.5x glow at the pulse's 1.2x peak
+    private static final float EXTENT = 1.5f * 1.2f;
+
+    private final HudWidgets widgets;
+    private ShaderProgram shader;
+    private TextureRegion orb;
+    private float time;
+
+    PowerUpGlow(HudWidgets widgets) {
+        this.widgets = widgets;
+    }
+
+    /**
+     * Switches the batch to the glow shader; {@code time} is the run's clock in seconds, including the fraction of
+     * a tick being interpolated. Pair with {@link #end(Batch)}.
+     */
+    void begin(Batch batch, float time) {
+        if (shader == null) {
+            shader = new ShaderProgram(Gdx.files.internal(VERTEX_SHADER), Gdx.files.internal(FRAGMENT_SHADER));
+            if (!shader.isCompiled()) {
+                String log = shader.getLog();
+                shader.dispose();
+                shader = null;
+                throw new GdxRuntimeException("Could not compile the power-up glow shader: " + log);
+            }
+            orb = widgets.orb();
+        }
+        this.time = time;
+
+        batch.setShader(shader);
+        // A wrapped clock keeps the shader's sine accurate on mediump GPUs however long the run lasts
+        shader.setUniformf("u_time", time % PULSE_PERIOD);
+        shader.setUniformf("u_region", orb.getU(), orb.getV(), orb.getU2(), orb.getV2());
+    }
+
+    /** Draws a power-up of {@code type} centred on (x, y) that has been on screen for {@code age} seconds. */
+    void draw(Batch batch, PowerUpType type, float x, float y, float radius, float age) {
+        float phase = ((time - age) % PULSE_PERIOD) / PULSE_PERIOD;
+        if (phase < 0) phase += 1;
+        batch.setColor(type.getColorR(), type.getColorG(), type.getColorB(), phase);
+
+        float halfSize = radius * EXTENT;
+        batch.draw(orb, x - halfSize, y - halfSize, halfSize * 2, halfSize * 2);
+    }
+
+    /** Restores the batch's default shader and colour. */
+    void end(Batch batch) {
+        batch.setShader(null);
+        batch.setColor(1, 1, 1, 1);
+    }
+
+    @Override
+    public void dispose() {
+        if (shader != null) {
+            shader.dispose();
+            shader = null;
+        }
+    }
+}
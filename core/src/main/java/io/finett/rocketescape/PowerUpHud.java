@@ -0,0 +1,76 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * The list of active power-ups in the top-left corner: a coloured bar per power-up with its name, the seconds
+ * left and a progress strip. Each {@link PowerUpType} owns one pre-built label that is only laid out again when
+ * its displayed seconds tick over, so drawing the list allocates nothing.
+ */
+final class PowerUpHud {
+    private static final float MIN_ROW_WIDTH = 100f;
+    private static final float ROW_HEIGHT = 30f;
+    private static final float ROW_SPACING = 35f;
+    private static final float PROGRESS_HEIGHT = 4f;
+    private static final float TEXT_PADDING = 5f;
+    private static final float TEXT_BASELINE = 20f;
+    private static final float EXPIRING_TIME = 3f;
+
+    private final HudText[] labels;
+
+    PowerUpHud(BitmapFont font) {
+        PowerUpType[] types = PowerUpType.values();
+        labels = new HudText[types.length];
+        for (PowerUpType type : types) {
+            labels[type.ordinal()] = new HudText(font, type.getName() + " ", "s");
+        }
+    }
+
+    /** Brings the labels of the active power-ups up to date; call once per frame before drawing. */
+    void update(Array<GameSimulation.PowerUp> activePowerUps) {
+        for (int i = 0; i < activePowerUps.size; i++) {
+            GameSimulation.PowerUp powerUp = activePowerUps.get(i);
+            labels[powerUp.type.ordinal()].setInt((int)Math.ceil(powerUp.animTimer));
+        }
+    }
+
+    /**
+     * Draws the row backgrounds and progress strips, top row at {@code y}, by stretching a white {@code pixel}.
+     * Expects the batch to be drawing; leaves its colour white.
+     */
+    void drawBars(Batch batch, TextureRegion pixel, Array<GameSimulation.PowerUp> activePowerUps, float x, float y) {
+        for (int i = 0; i < activePowerUps.size; i++) {
+            GameSimulation.PowerUp powerUp = activePowerUps.get(i);
+            PowerUpType type = powerUp.type;
+            float width = rowWidth(type);
+
+            batch.setColor(type.getColorR(), type.getColorG(), type.getColorB(), 0.7f);
+            batch.draw(pixel, x, y, width, ROW_HEIGHT);
+
+            float progress = powerUp.animTimer / type.getDuration();
+            batch.setColor(1, 1, 1, 0.3f);
+            batch.draw(pixel, x, y, width * progress, PROGRESS_HEIGHT);
+
+            y -= ROW_SPACING;
+        }
+        batch.setColor(1, 1, 1, 1);
+    }
+
+    /** Draws the row labels, top row at {@code y}. Expects the batch to be drawing. */
+    void drawLabels(Batch batch, Array<GameSimulation.PowerUp> activePowerUps, float x, float y) {
+        for (int i = 0; i < activePowerUps.size; i++) {
+            GameSimulation.PowerUp powerUp = activePowerUps.get(i);
+            float gb = powerUp.animTimer < EXPIRING_TIME ? 0.3f : 1f;
+            labels[powerUp.type.ordinal()].draw(batch, x + TEXT_PADDING, y + TEXT_BASELINE, 1, gb, gb, 1);
+
+            y -= ROW_SPACING;
+        }
+    }
+
+    private float rowWidth(PowerUpType type) {
+        return Math.max(MIN_ROW_WIDTH, labels[type.ordinal()].getWidth() + TEXT_PADDING * 2);
+    }
+}
@@ -0,0 +1,247 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Everything needed to replay a run: its seed, game mode and world size, and the tick of every flap. A
+ * {@link GameSimulation} only depends on these, so {@link ReplayPlayer} re-simulates the run to the same score.
+ * <p>
+ * The binary format stores ticks as differences from the previous event in variable-length integers, so a flap
+ * usually takes one or two bytes and a whole run a few hundred.
+ */
+public final class Replay {
+    private static final int MAGIC = 0x52455231; // "RER1"
+    private static final int FLAP = 0;
+    private static final int RESIZE = 1;
+
+    private final GameMode gameMode;
+    private final int tickRate;
+    private final long seed;
+    private final float worldWidth;
+    private final float worldHeight;
+    private final float rocketWidth;
+    private final float rocketHeight;
+
+    // Tick of each event shifted left by one, with its kind in the low bit
+    private final IntArray events = new IntArray();
+    // Width and height of each resize event, in order
+    private final FloatArray sizes = new FloatArray();
+    private int endTick = -1;
+    private int score;
+
+    private Replay(GameMode gameMode, int tickRate, long seed, float worldWidth, float worldHeight,
+        float rocketWidth, float rocketHeight) {
+        this.gameMode = gameMode;
+        this.tickRate = tickRate;
+        this.seed = seed;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.rocketWidth = rocketWidth;
+        this.rocketHeight = rocketHeight;
+    }
+
+    /** Starts recording the run {@code simulation} has just been reset to. */
+    static Replay record(GameSimulation simulation) {
+        return new Replay(simulation.getGameMode(), Math.round(1 / simulation.getTickDelta()), simulation.getSeed(),
+            simulation.getWorldWidth(), simulation.getWorldHeight(),
+            simulation.getRocketRect().width, simulation.getRocketRect().height);
+    }
+
+    /** Records a flap made after {@code tick} ticks, before the next one. */
+    void flap(int tick) {
+        events.add(tick << 1 | FLAP);
+    }
+
+    /** Records a resize made after {@code tick} ticks, before the next one. */
+    void resize(int tick, float width, float height) {
+        events.add(tick << 1 | RESIZE);
+        sizes.add(width);
+        sizes.add(height);
+    }
+
+    /** Ends the recording at {@code tick} with the run's final score. */
+    void finish(int tick, int score) {
+        endTick = tick;
+        this.score = score;
+    }
+
+    boolean isFinished() {
+        return endTick >= 0;
+    }
+
+    public GameMode getGameMode() {
+        return gameMode;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public float getWorldWidth() {
+        return worldWidth;
+    }
+
+    public float getWorldHeight() {
+        return worldHeight;
+    }
+
+    public float getRocketWidth() {
+        return rocketWidth;
+    }
+
+    public float getRocketHeight() {
+        return rocketHeight;
+    }
+
+    /** Number of ticks the run lasted. */
+    public int getEndTick() {
+        return endTick;
+    }
+
+    /** Score the run ended with, as recorded; {@link ReplayPlayer#verify()} checks it. */
+    public int getScore() {
+        return score;
+    }
+
+    int getEventCount() {
+        return events.size;
+    }
+
+    int getEventTick(int event) {
+        return events.get(event) >>> 1;
+    }
+
+    boolean isResize(int event) {
+        return (events.get(event) & 1) == RESIZE;
+    }
+
+    /** Width, then height, of each resize event in turn. */
+    float getSize(int index) {
+        return sizes.get(index);
+    }
+
+    /** Encodes the finished replay. */
+    public byte[] write() {
+        if (!isFinished()) {
+            throw new IllegalStateException("The replay has not finished recording");
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + events.size * 2);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(MAGIC);
+            out.writeUTF(gameMode.name());
+            writeVarInt(out, tickRate);
+            out.writeLong(seed);
+            out.writeFloat(worldWidth);
+            out.writeFloat(worldHeight);
+            out.writeFloat(rocketWidth);
+            out.writeFloat(rocketHeight);
+
+            writeVarInt(out, events.size);
+            int previousTick = 0;
+            int size = 0;
+            for (int i = 0; i < events.size; i++) {
+                int tick = getEventTick(i);
+                writeVarInt(out, (tick - previousTick) << 1 | (events.get(i) & 1));
+                previousTick = tick;
+                if (isResize(i)) {
+                    out.writeFloat(sizes.get(size++));
+                    out.writeFloat(sizes.get(size++));
+                }
+            }
+            writeVarInt(out, endTick - previousTick);
+            writeVarInt(out, score);
+        } catch (IOException e) {
+            // Only the in-memory stream is written to
+            throw new GdxRuntimeException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /** Decodes a replay written by {@link #write()}. */
+    public static Replay read(byte[] data) {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        try {
+            if (in.readInt() != MAGIC) {
+                throw new GdxRuntimeException("Not a replay");
+            }
+            GameMode gameMode = GameMode.valueOf(in.readUTF());
+            int tickRate = readVarInt(in);
+            if (tickRate <= 0) {
+                throw new GdxRuntimeException("Invalid tick rate: " + tickRate);
+            }
+            Replay replay = new Replay(gameMode, tickRate, in.readLong(),
+                in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat());
+
+            int count = readVarInt(in);
+            // Every event takes at least a byte, which bounds what a corrupt count can allocate
+            if (count < 0 || count > data.length) {
+                throw new GdxRuntimeException("Invalid event count: " + count);
+            }
+            replay.events.ensureCapacity(count);
+            int tick = 0;
+            for (int i = 0; i < count; i++) {
+                int event = readVarInt(in);
+                tick = addTick(tick, event >>> 1);
+                if ((event & 1) == RESIZE) {
+                    replay.resize(tick, in.readFloat(), in.readFloat());
+                } else {
+                    replay.flap(tick);
+                }
+            }
+            replay.finish(addTick(tick, readVarInt(in)), readVarInt(in));
+            return replay;
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Truncated replay", e);
+        } catch (IllegalArgumentException e) {
+            throw new GdxRuntimeException("Unknown game mode in replay", e);
+        }
+    }
+
+    private static int addTick(int tick, int delta) {
+        int sum = tick + delta;
+        // Ticks are stored shifted left by one, so they must fit in 30 bits
+        if (delta < 0 || sum > Integer.MAX_VALUE >>> 1) {
+            throw new GdxRuntimeException("Invalid tick in replay");
+        }
+        return sum;
+    }
+
+    // Seven bits per byte, low bits first, high bit set on every byte but the last
+    private static void writeVarInt(OutputStream out, int value) throws IOException {
+        while ((value & ~0x7f) != 0) {
+            out.write((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new IOException("Unexpected end of replay");
+            }
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new GdxRuntimeException("Malformed varint in replay");
+    }
+}
@@ -0,0 +1,127 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Re-runs a {@link Replay} on a fresh {@link GameSimulation}, feeding it the recorded flaps and resizes on the ticks
+ * they were made. Needs no GL context or input, so replays can be checked headless.
+ * <p>
+ * While playing it snapshots the whole simulation every {@link #getSnapshotInterval()} ticks, so {@link #seek(int)}
+ * restores the nearest earlier snapshot and steps at most one interval instead of replaying from the start. All
+ * snapshots share one int array, so taking one allocates nothing once it has room.
+ */
+public final class ReplayPlayer {
+    /** Ten seconds at the default tick rate. */
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 600;
+    // Room reserved per snapshot: the fixed fields plus a screen of spikes and power-ups
+    private static final int SNAPSHOT_SIZE_HINT = 128;
+
+    private final Replay replay;
+    private final GameSimulation simulation;
+    private final int snapshotInterval;
+    private int nextEvent;
+    private int nextSize;
+
+    // Snapshot n, taken at tick n * snapshotInterval before that tick's events, starts at snapshotOffsets[n]
+    private final IntArray snapshots;
+    private final IntArray snapshotOffsets;
+
+    public ReplayPlayer(Replay replay) {
+        this(replay, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    public ReplayPlayer(Replay replay, int snapshotInterval) {
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException("snapshotInterval must be positive: " + snapshotInterval);
+        }
+        this.replay = replay;
+        this.snapshotInterval = snapshotInterval;
+        simulation = new GameSimulation(replay.getGameMode(), replay.getWorldWidth(), replay.getWorldHeight(),
+            replay.getTickRate());
+        simulation.setRocketSize(replay.getRocketWidth(), replay.getRocketHeight());
+        simulation.reset(replay.getSeed());
+
+        int count = replay.getEndTick() / snapshotInterval + 1;
+        snapshots = new IntArray(count * SNAPSHOT_SIZE_HINT);
+        snapshotOffsets = new IntArray(count);
+        takeSnapshot();
+    }
+
+    public GameSimulation getSimulation() {
+        return simulation;
+    }
+
+    public int getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    public boolean isFinished() {
+        return simulation.getTick() >= replay.getEndTick() || simulation.isGameOver();
+    }
+
+    /** Applies the events recorded before the next tick and steps it; returns false once the replay has ended. */
+    public boolean step() {
+        int tick = simulation.getTick();
+        if (tick == snapshotOffsets.size * snapshotInterval) {
+            takeSnapshot();
+        }
+        while (nextEvent < replay.getEventCount() && replay.getEventTick(nextEvent) <= tick) {
+            if (replay.isResize(nextEvent)) {
+                simulation.resize(replay.getSize(nextSize), replay.getSize(nextSize + 1));
+                nextSize += 2;
+            } else {
+                simulation.flap();
+            }
+            nextEvent++;
+        }
+        if (isFinished()) {
+            return false;
+        }
+        simulation.step();
+        return true;
+    }
+
+    /** Steps until the replay ends. */
+    public void playToEnd() {
+        while (step()) {
+            // Each step applies its own events
+        }
+    }
+
+    /**
+     * Moves the simulation to {@code tick}, clamped to the replay's length, or to where the run ended if that is
+     * earlier. Steps forward from the current tick when that is closer than the nearest snapshot.
+     */
+    public void seek(int tick) {
+        tick = Math.max(0, Math.min(tick, replay.getEndTick()));
+        int snapshot = Math.min(tick / snapshotInterval, snapshotOffsets.size - 1);
+        int current = simulation.getTick();
+        if (current > tick || current < snapshot * snapshotInterval) {
+            restoreSnapshot(snapshot);
+        }
+        while (simulation.getTick() < tick && step()) {
+            // Passing an interval not yet covered takes its snapshot
+        }
+    }
+
+    /** Plays to the end and checks the run ended on the recorded tick with the recorded score. */
+    public boolean verify() {
+        playToEnd();
+        return simulation.getTick() == replay.getEndTick() && simulation.getScore() == replay.getScore();
+    }
+
+    private void takeSnapshot() {
+        snapshotOffsets.add(snapshots.size);
+        snapshots.add(nextEvent);
+        snapshots.add(nextSize);
+        simulation.writeState(snapshots);
+    }
+
+    private void restoreSnapshot(int snapshot) {
+        int offset = snapshotOffsets.get(snapshot);
+        int[] state = snapshots.items;
+        nextEvent = state[offset];
+        nextSize = state[offset + 1];
+        simulation.readState(state, offset + 2);
+    }
+}
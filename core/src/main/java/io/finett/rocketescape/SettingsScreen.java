@@ -7,7 +7,6 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 
@@ -46,24 +45,10 @@ public class SettingsScreen implements Screen {
     public void show() {
         batch = new SpriteBatch();
         shapeRenderer = new ShapeRenderer();
-        background = new Texture("space-bg.png");
-
-        // Safe font generation with try-finally
-        FreeTypeFontGenerator generator = null;
-        try {
-            generator = new FreeTypeFontGenerator(Gdx.files.internal("PressStart2P-Regular.ttf"));
-            FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-
-            parameter.size = 36;
-            titleFont = generator.generateFont(parameter);
-
-            parameter.size = 16;
-            menuFont = generator.generateFont(parameter);
-        } finally {
-            if (generator != null) {
-                generator.dispose();
-            }
-        }
+        background = game.getAssets().acquireTexture(Assets.BACKGROUND);
+
+        titleFont = game.getFonts().get(36);
+        menuFont = game.getFonts().get(16);
 
         titleLayout = new GlyphLayout();
         soundLayout = new GlyphLayout();
@@ -198,8 +183,6 @@ public class SettingsScreen implements Screen {
     public void dispose() {
         if (batch != null) batch.dispose();
         if (shapeRenderer != null) shapeRenderer.dispose();
-        if (background != null) background.dispose();
-        if (titleFont != null) titleFont.dispose();
-        if (menuFont != null) menuFont.dispose();
+        if (background != null) game.getAssets().release(Assets.BACKGROUND);
     }
 }
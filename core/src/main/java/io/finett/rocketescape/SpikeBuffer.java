@@ -0,0 +1,197 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Live spikes stored as parallel primitive arrays, so the per-tick loops walk contiguous memory instead of an
+ * object graph. Spikes occupy the index range {@code [begin(), end())}: they move in lockstep from the right edge
+ * and therefore leave in spawn order, so despawning only advances {@code begin} and a spawn appends at
+ * {@code end}, compacting or growing the arrays when it reaches their capacity.
+ * <p>
+ * Triangle vertices are not stored; they follow from the bounds whenever a collision test needs them.
+ * <p>
+ * Because every spike moves by the same amount, the buffer stays sorted by x. The only exception is a spike
+ * spawned left of an older one after the world shrinks; {@link #isSortedByX()} reports that until it despawns.
+ */
+final class SpikeBuffer {
+    private static final int INITIAL_CAPACITY = 16;
+
+    float[] x = new float[INITIAL_CAPACITY];
+    float[] prevX = new float[INITIAL_CAPACITY];
+    float[] y = new float[INITIAL_CAPACITY];
+    float[] width = new float[INITIAL_CAPACITY];
+    float[] height = new float[INITIAL_CAPACITY];
+    int[] textureIndex = new int[INITIAL_CAPACITY];
+    boolean[] top = new boolean[INITIAL_CAPACITY];
+    boolean[] scored = new boolean[INITIAL_CAPACITY];
+
+    private int begin;
+    private int end;
+    // Spikes before this index may be out of x order
+    private int unsortedEnd;
+    private float maxWidth;
+
+    int begin() {
+        return begin;
+    }
+
+    int end() {
+        return end;
+    }
+
+    int size() {
+        return end - begin;
+    }
+
+    /** Appends a spike and returns its index, valid until the next add since that may compact the arrays. */
+    int add(float x, float y, float width, float height, int textureIndex, boolean top) {
+        if (end == this.x.length) {
+            makeRoom();
+        }
+        int i = end++;
+        if (i > begin && x < this.x[i - 1]) {
+            unsortedEnd = i;
+        }
+        maxWidth = Math.max(maxWidth, width);
+        this.x[i] = x;
+        this.prevX[i] = x;
+        this.y[i] = y;
+        this.width[i] = width;
+        this.height[i] = height;
+        this.textureIndex[i] = textureIndex;
+        this.top[i] = top;
+        this.scored[i] = false;
+        return i;
+    }
+
+    /** Removes the oldest spike. */
+    void removeFirst() {
+        if (begin == end) throw new IllegalStateException("SpikeBuffer is empty.");
+        begin++;
+        if (begin == end) {
+            clear();
+        }
+    }
+
+    void clear() {
+        begin = 0;
+        end = 0;
+        unsortedEnd = 0;
+        maxWidth = 0;
+    }
+
+    boolean isSortedByX() {
+        return unsortedEnd <= begin;
+    }
+
+    /** Upper bound on the width of any live spike. */
+    float getMaxWidth() {
+        return maxWidth;
+    }
+
+    /** Index of the first spike with {@code x >= value}, or {@link #end()}; only meaningful while sorted by x. */
+    int firstWithXAtLeast(float value) {
+        int low = begin;
+        int high = end;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    void translateX(float amount) {
+        float[] x = this.x;
+        for (int i = begin; i < end; i++) {
+            x[i] += amount;
+        }
+    }
+
+    void storePreviousX() {
+        System.arraycopy(x, begin, prevX, begin, end - begin);
+    }
+
+    float right(int i) {
+        return x[i] + width[i];
+    }
+
+    float centerX(int i) {
+        return x[i] + width[i] / 2;
+    }
+
+    /** Y of the triangle's flat side: along the screen edge the spike grows from. */
+    float baseY(int i) {
+        return top[i] ? y[i] + height[i] : y[i];
+    }
+
+    /** Y of the triangle's tip, pointing into the gap. */
+    float tipY(int i) {
+        return top[i] ? y[i] : y[i] + height[i];
+    }
+
+    /** Appends the live spikes to {@code out}, floats as their bits; see {@link #readState(int[], int)}. */
+    void writeState(IntArray out) {
+        out.add(end - begin);
+        for (int i = begin; i < end; i++) {
+            out.add(Float.floatToRawIntBits(x[i]));
+            out.add(Float.floatToRawIntBits(prevX[i]));
+            out.add(Float.floatToRawIntBits(y[i]));
+            out.add(Float.floatToRawIntBits(width[i]));
+            out.add(Float.floatToRawIntBits(height[i]));
+            out.add(textureIndex[i] << 2 | (top[i] ? 2 : 0) | (scored[i] ? 1 : 0));
+        }
+    }
+
+    /**
+     * Replaces the live spikes with those written at {@code offset} and returns the offset just past them. The
+     * width bound and sort order are rebuilt from the restored spikes alone, which tests the same candidates.
+     */
+    int readState(int[] state, int offset) {
+        clear();
+        int count = state[offset++];
+        for (int n = 0; n < count; n++) {
+            int flags = state[offset + 5];
+            int i = add(Float.intBitsToFloat(state[offset]), Float.intBitsToFloat(state[offset + 2]),
+                Float.intBitsToFloat(state[offset + 3]), Float.intBitsToFloat(state[offset + 4]),
+                flags >>> 2, (flags & 2) != 0);
+            prevX[i] = Float.intBitsToFloat(state[offset + 1]);
+            scored[i] = (flags & 1) != 0;
+            offset += 6;
+        }
+        return offset;
+    }
+
+    private void makeRoom() {
+        int size = end - begin;
+        if (begin > 0 && size <= x.length / 2) {
+            // Plenty of despawned slots at the front: slide the live spikes down instead of growing
+            System.arraycopy(x, begin, x, 0, size);
+            System.arraycopy(prevX, begin, prevX, 0, size);
+            System.arraycopy(y, begin, y, 0, size);
+            System.arraycopy(width, begin, width, 0, size);
+            System.arraycopy(height, begin, height, 0, size);
+            System.arraycopy(textureIndex, begin, textureIndex, 0, size);
+            System.arraycopy(top, begin, top, 0, size);
+            System.arraycopy(scored, begin, scored, 0, size);
+        } else {
+            int capacity = x.length * 2;
+            x = Arrays.copyOfRange(x, begin, begin + capacity);
+            prevX = Arrays.copyOfRange(prevX, begin, begin + capacity);
+            y = Arrays.copyOfRange(y, begin, begin + capacity);
+            width = Arrays.copyOfRange(width, begin, begin + capacity);
+            height = Arrays.copyOfRange(height, begin, begin + capacity);
+            textureIndex = Arrays.copyOfRange(textureIndex, begin, begin + capacity);
+            top = Arrays.copyOfRange(top, begin, begin + capacity);
+            scored = Arrays.copyOfRange(scored, begin, begin + capacity);
+        }
+        unsortedEnd = Math.max(0, unsortedEnd - begin);
+        begin = 0;
+        end = size;
+    }
+}
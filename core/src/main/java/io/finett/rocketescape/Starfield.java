@@ -0,0 +1,121 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * The menu's drifting starfield. Every star is a quad in a static mesh uploaded once, holding its starting point
+ * and speed; the vertex shader moves and wraps it from a time uniform, so a frame costs the same on the CPU whatever
+ * the star count. The count scales with screen area, so high-resolution displays are not left sparse.
+ */
+final class Starfield implements Disposable {
+    static final String VERTEX_SHADER = "shaders/starfield.vert";
+    static final String FRAGMENT_SHADER = "shaders/starfield.frag";
+
+    // 50 stars on a 1920x1080 screen, and never fewer than that
+    private static final float STARS_PER_PIXEL = 50f / (1920 * 1080);
+    private static final int MIN_STARS = 50;
+    // Four vertices per star must stay addressable by short indices
+    private static final int MAX_STARS = 16383;
+    private static final float MIN_SPEED = 20f;
+    private static final float MAX_SPEED = 100f;
+    private static final int FLOATS_PER_VERTEX = 5;
+    private static final float[] CORNERS = {-1, -1, 1, -1, 1, 1, -1, 1};
+
+    private Mesh mesh;
+    private ShaderProgram shader;
+    private float time;
+
+    /** Advances the stars by {@code delta} seconds. */
+    void update(float delta) {
+        time += delta;
+    }
+
+    /**
+     * Draws the stars over a {@code width} by {@code height} screen, leaving alpha blending enabled. The mesh is built
+     * on the first call, with as many stars as that screen size calls for.
+     */
+    void draw(Matrix4 projection, float width, float height) {
+        if (mesh == null) {
+            int count = MathUtils.clamp((int)(width * height * STARS_PER_PIXEL), MIN_STARS, MAX_STARS);
+            shader = compile();
+            mesh = build(count);
+        }
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", projection);
+        shader.setUniformf("u_screen", width, height);
+        shader.setUniformf("u_time", time);
+        mesh.render(shader, GL20.GL_TRIANGLES);
+    }
+
+    private static ShaderProgram compile() {
+        ShaderProgram shader = new ShaderProgram(Gdx.files.internal(VERTEX_SHADER), Gdx.files.internal(FRAGMENT_SHADER));
+        if (!shader.isCompiled()) {
+            String log = shader.getLog();
+            shader.dispose();
+            throw new GdxRuntimeException("Could not compile the starfield shader: " + log);
+        }
+        return shader;
+    }
+
+    private static Mesh build(int count) {
+        float[] vertices = new float[count * 4 * FLOATS_PER_VERTEX];
+        short[] indices = new short[count * 6];
+
+        int v = 0;
+        for (int star = 0; star < count; star++) {
+            // Start positions are fractions of the screen, so a resize only changes the uniform
+            float x = MathUtils.random();
+            float y = MathUtils.random();
+            float speed = MathUtils.random(MIN_SPEED, MAX_SPEED);
+            for (int corner = 0; corner < 4; corner++) {
+                vertices[v++] = x;
+                vertices[v++] = y;
+                vertices[v++] = CORNERS[corner * 2];
+                vertices[v++] = CORNERS[corner * 2 + 1];
+                vertices[v++] = speed;
+            }
+
+            int first = star * 4;
+            int i = star * 6;
+            indices[i] = (short)first;
+            indices[i + 1] = (short)(first + 1);
+            indices[i + 2] = (short)(first + 2);
+            indices[i + 3] = (short)(first + 2);
+            indices[i + 4] = (short)(first + 3);
+            indices[i + 5] = (short)first;
+        }
+
+        Mesh mesh = new Mesh(true, count * 4, count * 6,
+            new VertexAttribute(VertexAttributes.Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+            new VertexAttribute(VertexAttributes.Usage.Generic, 2, "a_corner"),
+            new VertexAttribute(VertexAttributes.Usage.Generic, 1, "a_speed"));
+        mesh.setVertices(vertices);
+        mesh.setIndices(indices);
+        return mesh;
+    }
+
+    @Override
+    public void dispose() {
+        if (mesh != null) {
+            mesh.dispose();
+            mesh = null;
+        }
+        if (shader != null) {
+            shader.dispose();
+            shader = null;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/**
+ * Write-behind cache in front of the game's {@link Preferences}. Reads and writes only touch memory; changed values
+ * are collected and handed to a background thread at {@link #checkpoint()}, which writes them in one flush. Callers
+ * checkpoint at natural pauses (game over, pause, app pause) so gameplay never waits on storage.
+ * <p>
+ * After a key's first read, Preferences are only touched by the writer thread. Both sides lock on the Preferences
+ * object, so a cold read never overlaps a flush. Other files the game saves, such as replays, go through the same
+ * thread with {@link #writeBytes(FileHandle, byte[])}.
+ */
+final class StatsStore implements Disposable {
+    private final Preferences preferences;
+    private final AsyncExecutor writer = new AsyncExecutor(1, "stats-writer");
+
+    // Separate int and boolean maps so updates never box
+    private final ObjectIntMap<String> integers = new ObjectIntMap<String>();
+    private final ObjectMap<String, Boolean> booleans = new ObjectMap<String, Boolean>();
+    private final ObjectIntMap<String> dirtyIntegers = new ObjectIntMap<String>();
+    private final ObjectMap<String, Boolean> dirtyBooleans = new ObjectMap<String, Boolean>();
+
+    StatsStore(Preferences preferences) {
+        this.preferences = preferences;
+    }
+
+    int getInteger(String key, int defaultValue) {
+        if (!integers.containsKey(key)) {
+            synchronized (preferences) {
+                integers.put(key, preferences.getInteger(key, defaultValue));
+            }
+        }
+        return integers.get(key, defaultValue);
+    }
+
+    boolean getBoolean(String key, boolean defaultValue) {
+        Boolean value = booleans.get(key);
+        if (value == null) {
+            synchronized (preferences) {
+                value = preferences.getBoolean(key, defaultValue);
+            }
+            booleans.put(key, value);
+        }
+        return value;
+    }
+
+    void putInteger(String key, int value) {
+        integers.put(key, value);
+        dirtyIntegers.put(key, value);
+    }
+
+    void putBoolean(String key, boolean value) {
+        booleans.put(key, value);
+        dirtyBooleans.put(key, value);
+    }
+
+    /** Writes every value changed since the last checkpoint on the background thread; returns immediately. */
+    void checkpoint() {
+        if (dirtyIntegers.size == 0 && dirtyBooleans.size == 0) return;
+
+        final ObjectIntMap<String> integerChanges = new ObjectIntMap<String>(dirtyIntegers);
+        final ObjectMap<String, Boolean> booleanChanges = new ObjectMap<String, Boolean>(dirtyBooleans);
+        dirtyIntegers.clear();
+        dirtyBooleans.clear();
+        writer.submit(new AsyncTask<Void>() {
+            @Override
+            public Void call() {
+                write(integerChanges, booleanChanges);
+                return null;
+            }
+        });
+    }
+
+    /** Replaces {@code file} with {@code bytes} on the background thread after earlier checkpoints; returns at once. */
+    void writeBytes(final FileHandle file, final byte[] bytes) {
+        writer.submit(new AsyncTask<Void>() {
+            @Override
+            public Void call() {
+                try {
+                    file.writeBytes(bytes, false);
+                } catch (GdxRuntimeException e) {
+                    Gdx.app.error("StatsStore", "Could not save " + file.path(), e);
+                }
+                return null;
+            }
+        });
+    }
+
+    private void write(ObjectIntMap<String> integerChanges, ObjectMap<String, Boolean> booleanChanges) {
+        synchronized (preferences) {
+            for (ObjectIntMap.Entry<String> entry : integerChanges.entries()) {
+                preferences.putInteger(entry.key, entry.value);
+            }
+            for (ObjectMap.Entry<String, Boolean> entry : booleanChanges.entries()) {
+                preferences.putBoolean(entry.key, entry.value);
+            }
+            try {
+                preferences.flush();
+            } catch (GdxRuntimeException e) {
+                // The values are already in Preferences, so the next successful flush still saves them
+                Gdx.app.error("StatsStore", "Could not save stats", e);
+            }
+        }
+    }
+
+    /** Writes any remaining changes and waits for the writer thread to finish. */
+    @Override
+    public void dispose() {
+        checkpoint();
+        writer.dispose();
+    }
+}
@@ -0,0 +1,82 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+
+/**
+ * Rasterizes the HUD's shapes: a heart, a round orb and a single pixel, all white with antialiased edges so the
+ * batch colour tints them. The asset baker packs them into the shared atlas, and the game draws them itself when
+ * no baked atlas is present.
+ */
+public final class HudShapes {
+    public static final String HEART = "hud-heart";
+    public static final String ORB = "hud-orb";
+    public static final String PIXEL = "hud-pixel";
+    /** Every shape, in the order the game's fallback texture lays them out. */
+    public static final String[] NAMES = {HEART, ORB, PIXEL};
+
+    // Close to the sizes they are drawn at, so the atlas' nearest filtering keeps the edges smooth
+    private static final int HEART_WIDTH = 24;
+    private static final int ORB_SIZE = 64;
+    private static final int SAMPLES = 4;
+
+    private HudShapes() {
+    }
+
+    /** Rasterizes the shape called {@code name}; the caller owns the returned pixmap. */
+    public static Pixmap draw(String name) {
+        int width;
+        int height;
+        if (HEART.equals(name)) {
+            width = HEART_WIDTH;
+            height = HEART_WIDTH * 3 / 4;
+        } else if (ORB.equals(name)) {
+            width = ORB_SIZE;
+            height = ORB_SIZE;
+        } else if (PIXEL.equals(name)) {
+            width = 1;
+            height = 1;
+        } else {
+            throw new IllegalArgumentException("Unknown HUD shape: " + name);
+        }
+
+        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+        pixmap.setBlending(Pixmap.Blending.None);
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column++) {
+                // Coverage from a grid of samples per pixel; shapes use y up, pixmap rows run down
+                int inside = 0;
+                for (int sy = 0; sy < SAMPLES; sy++) {
+                    for (int sx = 0; sx < SAMPLES; sx++) {
+                        float x = column + (sx + 0.5f) / SAMPLES;
+                        float y = height - row - (sy + 0.5f) / SAMPLES;
+                        if (contains(name, x, y, width)) inside++;
+                    }
+                }
+                pixmap.drawPixel(column, row, Color.rgba8888(1f, 1f, 1f, inside / (float)(SAMPLES * SAMPLES)));
+            }
+        }
+        return pixmap;
+    }
+
+    private static boolean contains(String name, float x, float y, float width) {
+        if (ORB.equals(name)) {
+            float radius = width / 2;
+            return inCircle(x, y, radius, radius, radius);
+        }
+        if (HEART.equals(name)) {
+            // Two lobes on top of a downward triangle, the shape the HUD used to tessellate each frame
+            float half = width / 2;
+            float quarter = width / 4;
+            if (inCircle(x, y, quarter, half, quarter) || inCircle(x, y, half + quarter, half, quarter)) return true;
+            return y <= half && Math.abs(x - half) <= y;
+        }
+        return true;
+    }
+
+    private static boolean inCircle(float x, float y, float centerX, float centerY, float radius) {
+        float dx = x - centerX;
+        float dy = y - centerY;
+        return dx * dx + dy * dy <= radius * radius;
+    }
+}
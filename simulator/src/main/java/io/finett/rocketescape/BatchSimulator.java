@@ -0,0 +1,259 @@
+package io.finett.rocketescape;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Balance tuning from the command line: plays many headless games of each game mode with a bot player and prints
+ * the score and survival-time distributions, so a {@link GameBalance} can be judged before anyone plays it.
+ * <p>
+ * Games are split into batches run on every core. Each worker thread reuses one simulation and one bot, and a game's
+ * seed follows from its index alone, so the results do not depend on the thread count. Zen runs never end on their
+ * own, so every game stops at a time cap.
+ * <p>
+ * Run with {@code ./gradlew :simulator:run --args="--games 100000"}; {@code --help} lists the options.
+ */
+public class BatchSimulator {
+    static final float WORLD_WIDTH = 1920;
+    static final float WORLD_HEIGHT = 1080;
+    // Games per task: enough to amortize scheduling, few enough to keep every core busy to the end
+    private static final int BATCH_SIZE = 256;
+    private static final int[] PERCENTILES = {10, 25, 50, 75, 90, 99};
+
+    private static final String USAGE = "Usage: BatchSimulator [options]\n"
+        + "  --games N              games per mode (default 10000)\n"
+        + "  --modes A,B            game modes to run (default all)\n"
+        + "  --bot heuristic|scripted  player to simulate (default heuristic)\n"
+        + "  --skill S              heuristic bot's accuracy, 0 to 1 (default 0.8)\n"
+        + "  --period T             scripted bot's ticks between flaps (default 40)\n"
+        + "  --max-time S           seconds after which a game is stopped (default 300)\n"
+        + "  --threads N            worker threads (default: one per core)\n"
+        + "  --seed S               seed of the first game (default 1)\n"
+        + "  --difficulty-rate R    difficulty added per point\n"
+        + "  --min-spike-delay S    shortest time between spike pairs, in seconds\n"
+        + "  --max-spike-delay S    longest time between spike pairs, in seconds\n"
+        + "  --gap F                spike gap as a fraction of the world height\n"
+        + "  --powerup-interval S   seconds between power-ups\n"
+        + "  --csv FILE             also write every game's result to FILE\n"
+        + "Balance options default to the game's own values.";
+
+    private int games = 10000;
+    private GameMode[] modes = GameMode.values();
+    private String bot = "heuristic";
+    private float skill = 0.8f;
+    private int period = 40;
+    private float maxTime = 300;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private long seed = 1;
+    private GameBalance balance = GameBalance.DEFAULT;
+    private String csv;
+
+    public static void main(String[] args) throws Exception {
+        BatchSimulator simulator = new BatchSimulator();
+        simulator.parse(args);
+        simulator.run();
+    }
+
+    private void parse(String[] args) {
+        GameBalance base = GameBalance.DEFAULT;
+        float difficultyRate = base.getDifficultyIncreaseRate();
+        float minSpikeDelay = base.getMinSpikeDelay();
+        float maxSpikeDelay = base.getMaxSpikeDelay();
+        float gap = base.getSpikeGap();
+        float powerUpInterval = base.getPowerUpSpawnInterval();
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--help")) {
+                System.out.println(USAGE);
+                System.exit(0);
+            }
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value for " + option + "\n" + USAGE);
+            }
+            String value = args[++i];
+            if (option.equals("--games")) {
+                games = Integer.parseInt(value);
+            } else if (option.equals("--modes")) {
+                String[] names = value.split(",");
+                modes = new GameMode[names.length];
+                for (int m = 0; m < names.length; m++) {
+                    modes[m] = GameMode.valueOf(names[m].trim().toUpperCase(Locale.ROOT));
+                }
+            } else if (option.equals("--bot")) {
+                bot = value;
+            } else if (option.equals("--skill")) {
+                skill = Float.parseFloat(value);
+            } else if (option.equals("--period")) {
+                period = Integer.parseInt(value);
+            } else if (option.equals("--max-time")) {
+                maxTime = Float.parseFloat(value);
+            } else if (option.equals("--threads")) {
+                threads = Integer.parseInt(value);
+            } else if (option.equals("--seed")) {
+                seed = Long.parseLong(value);
+            } else if (option.equals("--difficulty-rate")) {
+                difficultyRate = Float.parseFloat(value);
+            } else if (option.equals("--min-spike-delay")) {
+                minSpikeDelay = Float.parseFloat(value);
+            } else if (option.equals("--max-spike-delay")) {
+                maxSpikeDelay = Float.parseFloat(value);
+            } else if (option.equals("--gap")) {
+                gap = Float.parseFloat(value);
+            } else if (option.equals("--powerup-interval")) {
+                powerUpInterval = Float.parseFloat(value);
+            } else if (option.equals("--csv")) {
+                csv = value;
+            } else {
+                throw new IllegalArgumentException("Unknown option " + option + "\n" + USAGE);
+            }
+        }
+        if (games <= 0 || threads <= 0 || maxTime <= 0) {
+            throw new IllegalArgumentException("--games, --threads and --max-time must be positive");
+        }
+        // Fails fast on a bad bot name or setting rather than in every worker
+        createBot();
+        balance = new GameBalance(difficultyRate, minSpikeDelay, maxSpikeDelay, gap, powerUpInterval);
+    }
+
+    private Bot createBot() {
+        if (bot.equals("heuristic")) {
+            return new HeuristicBot(skill);
+        }
+        if (bot.equals("scripted")) {
+            return new ScriptedBot(period);
+        }
+        throw new IllegalArgumentException("Unknown bot " + bot + "\n" + USAGE);
+    }
+
+    private void run() throws InterruptedException, ExecutionException, IOException {
+        System.out.println(games + " games per mode, " + bot + " bot, " + threads + " threads; " + balance);
+        PrintWriter csvOut = null;
+        if (csv != null) {
+            csvOut = new PrintWriter(new FileWriter(csv));
+            csvOut.println("mode,game,seed,score,ticks,survival_s,game_over");
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (GameMode mode : modes) {
+                Results results = new Results(games);
+                long start = System.nanoTime();
+                simulate(executor, mode, results);
+                long elapsed = System.nanoTime() - start;
+
+                report(mode, results, elapsed);
+                if (csvOut != null) {
+                    results.writeCsv(csvOut, mode, seed);
+                }
+            }
+        } finally {
+            executor.shutdown();
+            if (csvOut != null) {
+                csvOut.close();
+            }
+        }
+    }
+
+    private void simulate(ExecutorService executor, final GameMode mode, final Results results)
+        throws InterruptedException, ExecutionException {
+        final int maxTicks = Math.round(maxTime * GameSimulation.DEFAULT_TICK_RATE);
+        List<Future<Void>> batches = new ArrayList<Future<Void>>();
+        for (int first = 0; first < games; first += BATCH_SIZE) {
+            final int from = first;
+            final int to = Math.min(games, first + BATCH_SIZE);
+            batches.add(executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    GameSimulation simulation = new GameSimulation(mode, WORLD_WIDTH, WORLD_HEIGHT,
+                        GameSimulation.DEFAULT_TICK_RATE, balance);
+                    Bot player = createBot();
+                    for (int game = from; game < to; game++) {
+                        long gameSeed = seed + game;
+                        simulation.reset(gameSeed);
+                        player.reset(gameSeed);
+                        while (!simulation.isGameOver() && simulation.getTick() < maxTicks) {
+                            if (player.shouldFlap(simulation)) {
+                                simulation.flap();
+                            }
+                            simulation.step();
+                        }
+                        // Each game owns its slots, so workers never write the same element
+                        results.scores[game] = simulation.getScore();
+                        results.ticks[game] = simulation.getTick();
+                        results.gameOver[game] = simulation.isGameOver();
+                    }
+                    return null;
+                }
+            }));
+        }
+        // Rethrows the first failure of any batch
+        for (Future<Void> batch : batches) {
+            batch.get();
+        }
+    }
+
+    private static void report(GameMode mode, Results results, long elapsedNanos) {
+        long totalTicks = 0;
+        int capped = 0;
+        for (int i = 0; i < results.ticks.length; i++) {
+            totalTicks += results.ticks[i];
+            if (!results.gameOver[i]) capped++;
+        }
+        double seconds = elapsedNanos / 1e9;
+        System.out.println();
+        System.out.println(String.format(Locale.ROOT, "%s: %,d ticks in %.2f s (%,.0f ticks/s), %.1f%% hit the time cap",
+            mode, totalTicks, seconds, totalTicks / seconds, 100.0 * capped / results.ticks.length));
+        System.out.println("  score     " + distribution(results.scores, 1));
+        System.out.println("  survival  " + distribution(results.ticks, 1f / GameSimulation.DEFAULT_TICK_RATE) + " s");
+    }
+
+    // Mean, percentiles and maximum of values * scale
+    private static String distribution(int[] values, float scale) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        double sum = 0;
+        for (int value : sorted) {
+            sum += value;
+        }
+        StringBuilder line = new StringBuilder();
+        line.append(String.format(Locale.ROOT, "mean %.1f", sum / sorted.length * scale));
+        for (int percentile : PERCENTILES) {
+            int index = Math.min(sorted.length - 1, (int)((long)sorted.length * percentile / 100));
+            line.append(String.format(Locale.ROOT, "  p%d %.1f", percentile, sorted[index] * scale));
+        }
+        line.append(String.format(Locale.ROOT, "  max %.1f", sorted[sorted.length - 1] * scale));
+        return line.toString();
+    }
+
+    /** Per-game outcomes of one mode, indexed by game. */
+    private static final class Results {
+        final int[] scores;
+        final int[] ticks;
+        final boolean[] gameOver;
+
+        Results(int games) {
+            scores = new int[games];
+            ticks = new int[games];
+            gameOver = new boolean[games];
+        }
+
+        void writeCsv(PrintWriter out, GameMode mode, long firstSeed) {
+            for (int game = 0; game < scores.length; game++) {
+                out.println(mode + "," + game + "," + (firstSeed + game) + "," + scores[game] + "," + ticks[game] + ","
+                    + String.format(Locale.ROOT, "%.3f", ticks[game] / (float)GameSimulation.DEFAULT_TICK_RATE) + ","
+                    + gameOver[game]);
+            }
+        }
+    }
+}
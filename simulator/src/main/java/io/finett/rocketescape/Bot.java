@@ -0,0 +1,9 @@
+package io.finett.rocketescape;
+
+/** A simulated player, asked once before every tick whether to flap. Each worker thread has its own. */
+interface Bot {
+    /** Prepares for a new game; {@code seed} is the game's, so a bot's own randomness is repeatable too. */
+    void reset(long seed);
+
+    boolean shouldFlap(GameSimulation simulation);
+}
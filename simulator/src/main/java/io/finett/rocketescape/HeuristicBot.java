@@ -0,0 +1,57 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Aims for the middle of the next gap: flaps whenever the rocket sinks half a flap's climb below it, so the arcs it
+ * flies are centred on the gap. Skill below 1 adds an aiming error drawn after every flap, up to half the gap at
+ * skill 0, so runs spread out the way human ones do.
+ */
+final class HeuristicBot implements Bot {
+    // Half the climb of a flap: 500 units per second against a gravity of 900 rises about 139
+    private static final float HALF_ARC = 70f;
+    // Keeps the bot's stream apart from the simulation's, which is seeded the same
+    private static final long SEED_MASK = 0x3c6ef372fe94f82bL;
+
+    private final float skill;
+    private final RandomXS128 random = new RandomXS128();
+    private float aimError;
+
+    HeuristicBot(float skill) {
+        if (skill < 0 || skill > 1) {
+            throw new IllegalArgumentException("skill must be between 0 and 1: " + skill);
+        }
+        this.skill = skill;
+    }
+
+    @Override
+    public void reset(long seed) {
+        random.setSeed(seed ^ SEED_MASK);
+        aimError = 0;
+    }
+
+    @Override
+    public boolean shouldFlap(GameSimulation simulation) {
+        Rectangle rocket = simulation.getRocketRect();
+        if (rocket.y + rocket.height / 2 >= nextGapCenter(simulation) + aimError - HALF_ARC) {
+            return false;
+        }
+        float halfGap = simulation.getWorldHeight() * simulation.getBalance().getSpikeGap() / 2;
+        aimError = (float)random.nextGaussian() * (1 - skill) * halfGap;
+        return true;
+    }
+
+    // The middle of the first gap the rocket has not cleared yet, or of the screen when there is none
+    private static float nextGapCenter(GameSimulation simulation) {
+        SpikeBuffer spikes = simulation.getSpikes();
+        float rocketLeft = simulation.getRocketRect().x;
+        for (int i = spikes.begin(), end = spikes.end(); i < end; i++) {
+            // A pair is added top first, so the bottom spike follows its top one
+            if (!spikes.top[i] && i > spikes.begin() && spikes.right(i) >= rocketLeft) {
+                return (spikes.height[i] + spikes.y[i - 1]) / 2;
+            }
+        }
+        return simulation.getWorldHeight() / 2;
+    }
+}
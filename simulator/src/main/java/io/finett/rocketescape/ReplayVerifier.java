@@ -0,0 +1,38 @@
+package io.finett.rocketescape;
+
+import java.io.File;
+
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * Re-simulates recorded runs and checks each ends on the recorded tick with the recorded score, so a submitted score
+ * or a player's bug report can be reproduced without the game. Exits with status 1 if any replay does not match.
+ * See {@code ./gradlew :simulator:verifyReplay}.
+ * <p>
+ * Arguments: one or more replay files, such as the game's {@code replays/last.replay}.
+ */
+public class ReplayVerifier {
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Usage: ReplayVerifier <replay file>...");
+        }
+
+        boolean allMatch = true;
+        for (String path : args) {
+            byte[] data = new FileHandle(new File(path)).readBytes();
+            Replay replay = Replay.read(data);
+            ReplayPlayer player = new ReplayPlayer(replay);
+            boolean match = player.verify();
+            allMatch &= match;
+
+            GameSimulation simulation = player.getSimulation();
+            System.out.println(path + ": " + replay.getGameMode() + ", seed " + replay.getSeed() + ", "
+                + data.length + " bytes; recorded score " + replay.getScore() + " at tick " + replay.getEndTick()
+                + ", replayed score " + simulation.getScore() + " at tick " + simulation.getTick()
+                + (match ? " - OK" : " - MISMATCH"));
+        }
+        if (!allMatch) {
+            System.exit(1);
+        }
+    }
+}
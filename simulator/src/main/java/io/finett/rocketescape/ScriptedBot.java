@@ -0,0 +1,35 @@
+package io.finett.rocketescape;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * Flaps on a fixed beat and never looks at the spikes, starting at a random point in the beat. A baseline for how
+ * far the obstacle layout alone lets a player get.
+ */
+final class ScriptedBot implements Bot {
+    // Keeps the bot's stream apart from the simulation's, which is seeded the same
+    private static final long SEED_MASK = 0x510e527fade682d1L;
+
+    private final int period;
+    private final RandomXS128 random = new RandomXS128();
+    private int phase;
+
+    /** Flaps every {@code period} ticks. */
+    ScriptedBot(int period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        this.period = period;
+    }
+
+    @Override
+    public void reset(long seed) {
+        random.setSeed(seed ^ SEED_MASK);
+        phase = random.nextInt(period);
+    }
+
+    @Override
+    public boolean shouldFlap(GameSimulation simulation) {
+        return (simulation.getTick() + phase) % period == 0;
+    }
+}
@@ -0,0 +1,147 @@
+package io.finett.rocketescape.tools;
+
+import java.io.File;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.tools.bmfont.BitmapFontWriter;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import io.finett.rocketescape.HudShapes;
+
+/**
+ * Bakes the runtime assets the game would otherwise build on the device: every UI font size the screens use is
+ * rasterized into a .fnt file, and its glyph page is packed with the gameplay sprites and the HUD widgets into a
+ * single texture atlas.
+ * Run by the build before the asset list is generated; see {@code ./gradlew :tools:bakeAssets}.
+ * <p>
+ * Arguments: the assets directory, the output directory for the atlas and fonts, and a scratch directory.
+ */
+public class AssetBaker {
+    static final String ATLAS_NAME = "game";
+    static final String FONT = "PressStart2P-Regular.ttf";
+    // Every size a screen asks Fonts for; any other size is still generated with FreeType at runtime
+    static final int[] FONT_SIZES = {12, 14, 16, 18, 20, 24, 32, 36, 48};
+    static final String[] SPRITES = {
+        "rocket.png", "spike_1.png", "spike_2.png", "spike_3.png", "spike_4.png", "spike_5.png",
+        "particles/particle.png"
+    };
+    // The rocket is never drawn larger than 80 pixels wide, so its 1332x1732 source only wastes atlas space. It is
+    // shrunk by exactly this whole factor, to 333x433, which keeps its aspect ratio, and so its hitbox, exact.
+    static final String ROCKET = "rocket.png";
+    static final int ROCKET_DOWNSCALE = 4;
+    static final int MAX_PAGE_SIZE = 2048;
+
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: AssetBaker <assets dir> <output dir> <scratch dir>");
+        }
+        FileHandle assets = new FileHandle(new File(args[0]));
+        FileHandle output = new FileHandle(new File(args[1]));
+        FileHandle scratch = new FileHandle(new File(args[2]));
+
+        GdxNativesLoader.load();
+        output.deleteDirectory();
+        scratch.deleteDirectory();
+        output.mkdirs();
+        scratch.mkdirs();
+
+        for (String sprite : SPRITES) {
+            stageSprite(assets.child(sprite), scratch);
+        }
+        for (String widget : HudShapes.NAMES) {
+            Pixmap pixmap = HudShapes.draw(widget);
+            PixmapIO.writePNG(scratch.child(widget + ".png"), pixmap);
+            pixmap.dispose();
+        }
+        for (int size : FONT_SIZES) {
+            bakeFont(assets.child(FONT), size, output, scratch);
+        }
+
+        TexturePacker.Settings settings = new TexturePacker.Settings();
+        settings.maxWidth = MAX_PAGE_SIZE;
+        settings.maxHeight = MAX_PAGE_SIZE;
+        settings.paddingX = 2;
+        settings.paddingY = 2;
+        settings.duplicatePadding = true;
+        TexturePacker.process(settings, scratch.path(), output.path(), ATLAS_NAME);
+    }
+
+    private static void stageSprite(FileHandle source, FileHandle scratch) {
+        FileHandle target = scratch.child(source.name());
+        if (!source.name().equals(ROCKET)) {
+            source.copyTo(target);
+            return;
+        }
+
+        Pixmap original = new Pixmap(source);
+        int width = original.getWidth() / ROCKET_DOWNSCALE;
+        int height = original.getHeight() / ROCKET_DOWNSCALE;
+        Pixmap scaled = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+        scaled.setBlending(Pixmap.Blending.None);
+        scaled.setFilter(Pixmap.Filter.BiLinear);
+        scaled.drawPixmap(original, 0, 0, original.getWidth(), original.getHeight(), 0, 0, width, height);
+        PixmapIO.writePNG(target, scaled);
+        scaled.dispose();
+        original.dispose();
+    }
+
+    /** Writes {@code <font>-<size>.fnt} to the output and its single glyph page to the scratch directory. */
+    private static void bakeFont(FileHandle fontFile, int size, FileHandle output, FileHandle scratch) {
+        // Named like Fonts.bakedName; a hyphen keeps TexturePacker from reading the size as a region index
+        String name = fontFile.nameWithoutExtension() + "-" + size;
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(fontFile);
+        try {
+            // Smallest page that holds every glyph, so the atlas does not carry empty space
+            for (int pageSize = 128; pageSize <= MAX_PAGE_SIZE; pageSize *= 2) {
+                PixmapPacker packer = new PixmapPacker(pageSize, pageSize, Pixmap.Format.RGBA8888, 1, false,
+                    new PixmapPacker.SkylineStrategy());
+                FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+                parameter.size = size;
+                parameter.packer = packer;
+                FreeTypeFontGenerator.FreeTypeBitmapFontData data = generator.generateData(parameter);
+
+                if (packer.getPages().size == 1) {
+                    Pixmap page = cropToGlyphs(packer.getPages().first(), data);
+                    String[] pages = BitmapFontWriter.writePixmaps(new Pixmap[] {page}, scratch, name);
+                    BitmapFontWriter.FontInfo info = new BitmapFontWriter.FontInfo(fontFile.nameWithoutExtension(), size);
+                    // Keep FreeType's own ascent, descent and line height instead of recomputing them from glyphs
+                    info.overrideMetrics(data);
+                    BitmapFontWriter.writeFont(data, pages, output.child(name + ".fnt"), info, page.getWidth(),
+                        page.getHeight());
+                    page.dispose();
+                    packer.dispose();
+                    return;
+                }
+                packer.dispose();
+            }
+            throw new GdxRuntimeException("Glyphs of " + name + " do not fit on one " + MAX_PAGE_SIZE + " page.");
+        } finally {
+            generator.dispose();
+        }
+    }
+
+    // Glyphs are packed from the top left, so cutting off the unused right and bottom keeps their coordinates
+    private static Pixmap cropToGlyphs(PixmapPacker.Page page, BitmapFont.BitmapFontData data) {
+        int width = 1;
+        int height = 1;
+        for (BitmapFont.Glyph[] glyphs : data.glyphs) {
+            if (glyphs == null) continue;
+            for (BitmapFont.Glyph glyph : glyphs) {
+                if (glyph == null) continue;
+                width = Math.max(width, glyph.srcX + glyph.width);
+                height = Math.max(height, glyph.srcY + glyph.height);
+            }
+        }
+        Pixmap cropped = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+        cropped.setBlending(Pixmap.Blending.None);
+        cropped.drawPixmap(page.getPixmap(), 0, 0, 0, 0, width, height);
+        return cropped;
+    }
+}